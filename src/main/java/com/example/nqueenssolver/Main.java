@@ -3,12 +3,184 @@ package com.example.nqueenssolver;
 import javax.swing.SwingUtilities;
 
 import com.example.nqueenssolver.gui.NQueensSolverGUI;
+import com.example.nqueenssolver.service.SolveLoadGenerator;
+import com.example.nqueenssolver.service.SolveService;
+import com.example.nqueenssolver.solver.NQueensCounter;
+import com.example.nqueenssolver.solver.ParallelLocalSearch;
+import com.example.nqueenssolver.solver.SolutionIndex;
+import com.example.nqueenssolver.solver.SolutionIndexBuilder;
+import com.example.nqueenssolver.utils.PerformanceUtils;
+import com.example.nqueenssolver.utils.RecordingAnalyzer;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
 
 public class Main {
     public static void main(String[] args) {
+        if (args.length > 0) {
+            System.exit(runCommandLine(args));
+        }
+
         SwingUtilities.invokeLater(() -> {
             NQueensSolverGUI gui = new NQueensSolverGUI();
             gui.setVisible(true);
         });
     }
+
+    private static int runCommandLine(String[] args) {
+        try {
+            if ("--count".equals(args[0]) && args.length >= 2) {
+                int n = Integer.parseInt(args[1]);
+                int threads = args.length >= 4 && "--threads".equals(args[2])
+                    ? Integer.parseInt(args[3])
+                    : PerformanceUtils.calculateOptimalThreadCount(n);
+                return countSolutions(n, threads);
+            }
+            if ("--large".equals(args[0]) && args.length >= 2) {
+                int n = Integer.parseInt(args[1]);
+                int threads = args.length >= 4 && "--threads".equals(args[2])
+                    ? Integer.parseInt(args[3])
+                    : Runtime.getRuntime().availableProcessors();
+                return solveLarge(n, threads);
+            }
+            if ("--serve".equals(args[0]) && args.length >= 2) {
+                return serve(Integer.parseInt(args[1]));
+            }
+            if ("--load-test".equals(args[0]) && args.length >= 2) {
+                int concurrency = args.length >= 3 ? Integer.parseInt(args[2]) : 256;
+                int requests = args.length >= 4 ? Integer.parseInt(args[3]) : 10_000;
+                return loadTest(URI.create(args[1]), concurrency, requests);
+            }
+            if ("--index".equals(args[0]) && args.length >= 2) {
+                int maxN = args.length >= 3 ? Integer.parseInt(args[2]) : SolutionIndex.MAX_INDEXED_SIZE;
+                return buildIndex(Path.of(args[1]), maxN);
+            }
+            if ("--analyze".equals(args[0]) && args.length >= 2) {
+                return analyzeRecording(Path.of(args[1]));
+            }
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid number: " + e.getMessage());
+            return 2;
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            printUsage();
+            return 2;
+        }
+        printUsage();
+        return 2;
+    }
+
+    private static int countSolutions(int n, int threads) {
+        NQueensCounter counter = new NQueensCounter(n, threads);
+        counter.addProgressListener(progress -> System.err.print("\r" + progress + "   "));
+
+        PerformanceUtils.Timer timer = new PerformanceUtils.Timer();
+        timer.start();
+        try {
+            long solutions = counter.count();
+            timer.stop();
+            System.err.println();
+            System.out.println(n + "-Queens: " + solutions + " solutions in " + timer.getFormattedTime()
+                + " using " + threads + " threads");
+            return 0;
+        } catch (CancellationException e) {
+            System.err.println();
+            System.err.println("Cancelled.");
+            return 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 1;
+        }
+    }
+
+    private static int solveLarge(int n, int threads) {
+        ParallelLocalSearch search = new ParallelLocalSearch(n, threads, System.nanoTime());
+        try {
+            boolean solved = search.solve();
+            System.out.println(n + "-Queens local search " + (solved ? "found a verified solution" : "gave up")
+                + " in " + PerformanceUtils.formatNanos(search.getElapsedNanos()) + " using " + threads + " threads: "
+                + search.getRounds() + " rounds, " + search.getRestarts() + " restarts, " + search.getRepairs() + " repairs, "
+                + PerformanceUtils.formatCount(search.getRepairsPerSecond()) + " repairs/s");
+            return solved ? 0 : 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 1;
+        }
+    }
+
+    private static int serve(int port) {
+        int processors = Runtime.getRuntime().availableProcessors();
+        try {
+            // Concurrent counts already fill the compute pool, so each one runs single-threaded.
+            SolveService service = new SolveService(port, 64, processors, 1, 16);
+            CountDownLatch stopped = new CountDownLatch(1);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                service.stop();
+                stopped.countDown();
+            }));
+            service.start();
+            System.out.println("Serving on http://localhost:" + service.getPort() + "/ (Ctrl+C to stop)");
+            stopped.await();
+            return 0;
+        } catch (IOException e) {
+            System.err.println("Could not start service: " + e.getMessage());
+            return 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 1;
+        }
+    }
+
+    private static int loadTest(URI baseUri, int concurrency, int requests) {
+        try {
+            System.out.println(new SolveLoadGenerator(baseUri, concurrency, requests).run());
+            return 0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 1;
+        }
+    }
+
+    private static int buildIndex(Path directory, int maxN) {
+        PerformanceUtils.Timer timer = new PerformanceUtils.Timer();
+        timer.start();
+        try {
+            SolutionIndexBuilder.buildAll(directory, maxN);
+            timer.stop();
+            SolutionIndex index = SolutionIndex.open(directory);
+            System.out.println("Indexed " + index.getSolutionCount(maxN) + " solutions for n=" + maxN
+                + " (and all smaller boards) in " + timer.getFormattedTime());
+            return 0;
+        } catch (IOException e) {
+            System.err.println("Could not write index: " + e.getMessage());
+            return 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 1;
+        }
+    }
+
+    private static int analyzeRecording(Path recording) {
+        try {
+            System.out.print(RecordingAnalyzer.analyze(recording));
+            return 0;
+        } catch (IOException e) {
+            System.err.println("Could not read recording: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage:");
+        System.err.println("  java -jar nqueenssolver.jar                          start the GUI");
+        System.err.println("  java -jar nqueenssolver.jar --count N [--threads T]  count all solutions");
+        System.err.println("  java -jar nqueenssolver.jar --large N [--threads T]  find one solution by parallel local search");
+        System.err.println("  java -jar nqueenssolver.jar --serve PORT             run the HTTP solve service");
+        System.err.println("  java -jar nqueenssolver.jar --load-test URL [C] [R]  send R requests with C concurrent clients");
+        System.err.println("  java -jar nqueenssolver.jar --index DIR [MAX_N]       write ranked solution tables for N <= MAX_N");
+        System.err.println("  java -jar nqueenssolver.jar --analyze FILE.jfr        print solver phase throughput from a JFR recording");
+    }
 }
@@ -1,6 +1,9 @@
 package com.example.nqueenssolver.gui;
 
+import com.example.nqueenssolver.solver.NQueensCounter;
 import com.example.nqueenssolver.solver.NQueensThread;
+import com.example.nqueenssolver.solver.SearchProgress;
+import com.example.nqueenssolver.utils.PerformanceUtils;
 
 import javax.swing.*;
 import java.awt.*;
@@ -10,6 +13,7 @@ import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -23,9 +27,11 @@ public class NQueensSolverGUI extends JFrame {
     private final List<NQueensThread> activeThreads = new ArrayList<>();
     private final List<JFrame> solutionFrames = new ArrayList<>();
     private ExecutorService executorService;
+    private volatile NQueensCounter activeCounter;
     
     private JTextField textField;
     private JButton solveButton;
+    private JButton countButton;
     private JButton stopButton;
     private JLabel statusLabel;
     private JSpinner threadCountSpinner;
@@ -85,13 +91,16 @@ public class NQueensSolverGUI extends JFrame {
         // Buttons
         JPanel buttonPanel = new JPanel(new FlowLayout());
         solveButton = new JButton("Start Solving");
+        countButton = new JButton("Count All");
         stopButton = new JButton("Stop All");
         stopButton.setEnabled(false);
         
         solveButton.addActionListener(this::onSolveButtonClicked);
+        countButton.addActionListener(this::onCountButtonClicked);
         stopButton.addActionListener(this::onStopButtonClicked);
         
         buttonPanel.add(solveButton);
+        buttonPanel.add(countButton);
         buttonPanel.add(stopButton);
         
         gbc.gridx = 0; gbc.gridy = 3; gbc.gridwidth = 2; gbc.insets = new Insets(20, 0, 0, 0);
@@ -145,6 +154,23 @@ public class NQueensSolverGUI extends JFrame {
         }
     }
 
+    private void onCountButtonClicked(ActionEvent e) {
+        try {
+            int n = Integer.parseInt(textField.getText().trim());
+            int threadCount = (Integer) threadCountSpinner.getValue();
+
+            if (n <= 0 || n > 32) {
+                showErrorMessage("Counting supports board sizes from 1 to 32.");
+                return;
+            }
+
+            countSolutions(n, threadCount);
+
+        } catch (NumberFormatException ex) {
+            showErrorMessage("Please enter a valid integer for the board size.");
+        }
+    }
+
     private void onStopButtonClicked(ActionEvent e) {
         stopAllThreads();
     }
@@ -159,6 +185,7 @@ public class NQueensSolverGUI extends JFrame {
         resetWindowPositions();
 
         solveButton.setEnabled(false);
+        countButton.setEnabled(false);
         stopButton.setEnabled(true);
         statusLabel.setText("Solving " + n + "-Queens problem with " + threadCount + " threads...");
 
@@ -174,6 +201,59 @@ public class NQueensSolverGUI extends JFrame {
         }
     }
 
+    private void countSolutions(int n, int threadCount) {
+        stopAllThreads();
+
+        NQueensCounter counter = new NQueensCounter(n, threadCount);
+        counter.addProgressListener(progress -> onCountProgress(counter, n, progress));
+        activeCounter = counter;
+
+        solveButton.setEnabled(false);
+        countButton.setEnabled(false);
+        stopButton.setEnabled(true);
+        statusLabel.setText("Counting " + n + "-Queens solutions with " + threadCount + " threads...");
+
+        Thread countThread = new Thread(() -> {
+            String message;
+            try {
+                long solutions = counter.count();
+                SearchProgress progress = counter.getProgress();
+                message = "Completed. " + n + "-Queens has " + solutions + " solution(s), counted in "
+                    + PerformanceUtils.formatNanos(progress.getElapsedNanos()) + ".";
+            } catch (CancellationException ex) {
+                message = "Counting cancelled.";
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                message = "Counting interrupted.";
+            }
+            onCountFinished(counter, message);
+        }, "NQueens-Count-" + n);
+        countThread.setDaemon(true);
+        countThread.start();
+    }
+
+    private void onCountProgress(NQueensCounter counter, int n, SearchProgress progress) {
+        SwingUtilities.invokeLater(() -> {
+            // A cancelled counter keeps reporting until its current subtree ends; ignore it.
+            if (activeCounter == counter && !progress.isFinished()) {
+                statusLabel.setText("Counting " + n + "-Queens: " + progress);
+            }
+        });
+    }
+
+    private void onCountFinished(NQueensCounter counter, String message) {
+        SwingUtilities.invokeLater(() -> {
+            if (activeCounter != counter) {
+                return;
+            }
+            activeCounter = null;
+            statusLabel.setText(message);
+            solveButton.setEnabled(true);
+            countButton.setEnabled(true);
+            stopButton.setEnabled(false);
+        });
+    }
+
     private void onThreadMessage(String message) {
         SwingUtilities.invokeLater(() -> {
             statusLabel.setText(message);
@@ -181,6 +261,7 @@ public class NQueensSolverGUI extends JFrame {
             boolean allFinished = activeThreads.stream().allMatch(t -> !t.isAlive());
             if (allFinished) {
                 solveButton.setEnabled(true);
+                countButton.setEnabled(true);
                 stopButton.setEnabled(false);
                 
                 long solutionsFound = activeThreads.stream()
@@ -194,6 +275,12 @@ public class NQueensSolverGUI extends JFrame {
     }
 
     private void stopAllThreads() {
+        NQueensCounter counter = activeCounter;
+        if (counter != null) {
+            counter.cancel();
+            activeCounter = null;
+        }
+
         if (executorService != null && !executorService.isShutdown()) {
             activeThreads.forEach(NQueensThread::requestStop);
             
@@ -210,6 +297,7 @@ public class NQueensSolverGUI extends JFrame {
         
         activeThreads.clear();
         solveButton.setEnabled(true);
+        countButton.setEnabled(true);
         stopButton.setEnabled(false);
         statusLabel.setText("Stopped all solving threads.");
     }
@@ -0,0 +1,105 @@
+package com.example.nqueenssolver.service;
+
+import com.example.nqueenssolver.utils.PerformanceUtils;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Local load generator for {@link SolveService}. Every request runs on its own
+ * virtual thread, so thousands of concurrent clients cost next to nothing on
+ * the client side and the measured latency is dominated by the server.
+ */
+public class SolveLoadGenerator {
+
+    private final URI baseUri;
+    private final int concurrency;
+    private final int totalRequests;
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    public SolveLoadGenerator(URI baseUri, int concurrency, int totalRequests) {
+        if (concurrency <= 0 || totalRequests <= 0) {
+            throw new IllegalArgumentException("Concurrency and request count must be positive");
+        }
+        this.baseUri = baseUri;
+        this.concurrency = concurrency;
+        this.totalRequests = totalRequests;
+    }
+
+    /**
+     * Runs the load and returns a human-readable latency report.
+     */
+    public String run() throws InterruptedException {
+        long[] latencies = new long[totalRequests];
+        Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        LongAdder failures = new LongAdder();
+        Semaphore permits = new Semaphore(concurrency);
+
+        PerformanceUtils.Timer timer = new PerformanceUtils.Timer();
+        timer.start();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < totalRequests; i++) {
+                permits.acquire();
+                int index = i;
+                executor.execute(() -> {
+                    try {
+                        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(randomQuery())).GET().build();
+                        long start = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        latencies[index] = System.nanoTime() - start;
+                        statuses.computeIfAbsent(response.statusCode(), k -> new LongAdder()).increment();
+                    } catch (Exception e) {
+                        latencies[index] = Long.MAX_VALUE;
+                        failures.increment();
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+        timer.stop();
+
+        long[] completed = Arrays.stream(latencies).filter(l -> l != Long.MAX_VALUE).sorted().toArray();
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%d requests, concurrency %d, %s, %.1f req/s%n",
+            totalRequests, concurrency, timer.getFormattedTime(),
+            totalRequests * 1_000_000_000.0 / Math.max(1, timer.getElapsedNanos())));
+        Map<Integer, Long> byStatus = new TreeMap<>();
+        statuses.forEach((status, count) -> byStatus.put(status, count.sum()));
+        report.append("Status codes: ").append(byStatus).append(", transport failures: ").append(failures.sum())
+            .append(System.lineSeparator());
+        if (completed.length > 0) {
+            report.append(String.format("Latency p50 %s, p90 %s, p99 %s, max %s",
+                PerformanceUtils.formatNanos(PerformanceUtils.percentile(completed, 50)),
+                PerformanceUtils.formatNanos(PerformanceUtils.percentile(completed, 90)),
+                PerformanceUtils.formatNanos(PerformanceUtils.percentile(completed, 99)),
+                PerformanceUtils.formatNanos(completed[completed.length - 1])));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Mixes the three query types over a small range of sizes so that some
+     * requests coalesce and others compete for admission.
+     */
+    private static String randomQuery() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int n = 8 + random.nextInt(7);
+        return switch (random.nextInt(3)) {
+            case 0 -> "/solve?n=" + (n + 10);
+            case 1 -> "/count?n=" + n;
+            default -> "/complete?n=" + n + "&prefix=" + random.nextInt(n);
+        };
+    }
+}
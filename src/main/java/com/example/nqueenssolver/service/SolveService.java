@@ -0,0 +1,305 @@
+package com.example.nqueenssolver.service;
+
+import com.example.nqueenssolver.solver.BitboardSearch;
+import com.example.nqueenssolver.solver.BoardVariant;
+import com.example.nqueenssolver.solver.NQueensCounter;
+import com.example.nqueenssolver.solver.SearchBudgetExceededException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.Callable;
+
+/**
+ * Embedded HTTP front end for the solver, built on the JDK's
+ * {@code com.sun.net.httpserver} so it needs no extra dependencies.
+ * <p>
+ * Endpoints (all {@code GET}, all answering JSON):
+ * <ul>
+ *   <li>{@code /solve?n=N} - lexicographically first solution</li>
+ *   <li>{@code /count?n=N} - total number of solutions</li>
+ *   <li>{@code /complete?n=N&prefix=c0,c1,...} - first solution extending a prefix</li>
+ *   <li>{@code /stats} - request, computation, coalescing and rejection counters</li>
+ * </ul>
+ * Identical concurrent queries are coalesced onto one computation. Distinct
+ * computations are admitted through a semaphore; when it is exhausted the
+ * request is answered immediately with {@code 503} instead of queueing.
+ * {@code /solve} and {@code /complete} searches stop after a node budget
+ * and answer {@code 504}, so one hard prefix cannot hold a compute thread
+ * for minutes.
+ */
+public class SolveService {
+
+    /** Enough for {@code /solve} on every N up to 32; about three seconds of search. */
+    public static final long DEFAULT_MAX_SEARCH_NODES = 200_000_000L;
+
+    private final HttpServer server;
+    private final ExecutorService requestExecutor;
+    private final ExecutorService computeExecutor;
+    private final Semaphore admission;
+    private final int countThreads;
+    private final int maxCountSize;
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private volatile long maxSearchNodes = DEFAULT_MAX_SEARCH_NODES;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder computations = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /** Test hook: when set, admitted computations wait for it before running. */
+    volatile CountDownLatch computeGate;
+
+    /**
+     * @param port           TCP port to bind, or 0 for an ephemeral port
+     * @param maxInFlight    maximum number of distinct computations running or queued
+     * @param computeThreads threads executing admitted computations
+     * @param countThreads   worker threads used by each exhaustive count; up to
+     *                       {@code computeThreads * countThreads} counting threads
+     *                       can run at once
+     * @param maxCountSize   largest board size accepted by {@code /count}
+     */
+    public SolveService(int port, int maxInFlight, int computeThreads, int countThreads, int maxCountSize)
+            throws IOException {
+        if (maxInFlight <= 0 || computeThreads <= 0 || countThreads <= 0) {
+            throw new IllegalArgumentException("Capacity and thread counts must be positive");
+        }
+        this.admission = new Semaphore(maxInFlight);
+        this.countThreads = countThreads;
+        this.maxCountSize = maxCountSize;
+
+        AtomicInteger computeIndex = new AtomicInteger();
+        this.computeExecutor = Executors.newFixedThreadPool(computeThreads, r -> {
+            Thread t = new Thread(r, "NQueens-Service-" + computeIndex.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.requestExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+        this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.setExecutor(requestExecutor);
+        server.createContext("/solve", exchange -> handle(exchange, this::solve));
+        server.createContext("/count", exchange -> handle(exchange, this::count));
+        server.createContext("/complete", exchange -> handle(exchange, this::complete));
+        server.createContext("/stats", exchange -> handle(exchange, params -> stats()));
+    }
+
+    /**
+     * Sets how many search nodes a {@code /solve} or {@code /complete}
+     * computation may visit before it is answered with {@code 504}.
+     */
+    public void setMaxSearchNodes(long maxSearchNodes) {
+        if (maxSearchNodes <= 0) {
+            throw new IllegalArgumentException("Node budget must be positive");
+        }
+        this.maxSearchNodes = maxSearchNodes;
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        computeExecutor.shutdownNow();
+        requestExecutor.shutdownNow();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private String solve(Map<String, String> params) throws Exception {
+        int n = boardSize(params, 32);
+        return coalesce("solve:" + n, () ->
+            "{\"n\":" + n + ",\"solution\":" + Json.array(search(n, new int[0])) + "}");
+    }
+
+    private String count(Map<String, String> params) throws Exception {
+        int n = boardSize(params, maxCountSize);
+        return coalesce("count:" + n, () -> {
+            NQueensCounter counter = new NQueensCounter(n, countThreads);
+            long count = counter.count();
+            return "{\"n\":" + n + ",\"count\":" + count
+                + ",\"elapsedMillis\":" + counter.getProgress().getElapsedNanos() / 1_000_000 + "}";
+        });
+    }
+
+    private String complete(Map<String, String> params) throws Exception {
+        int n = boardSize(params, 32);
+        int[] prefix = parsePrefix(params.getOrDefault("prefix", ""));
+        String key = Json.array(prefix);
+        return coalesce("complete:" + n + ":" + key, () ->
+            "{\"n\":" + n + ",\"prefix\":" + key + ",\"solution\":"
+                + Json.array(search(n, prefix)) + "}");
+    }
+
+    private int[] search(int n, int[] prefix) {
+        return BitboardSearch.complete(BoardVariant.standard(n), prefix, maxSearchNodes);
+    }
+
+    private String stats() {
+        return "{\"requests\":" + requests.sum()
+            + ",\"computations\":" + computations.sum()
+            + ",\"coalesced\":" + coalesced.sum()
+            + ",\"rejected\":" + rejected.sum()
+            + ",\"inFlight\":" + inFlight.size() + "}";
+    }
+
+    /**
+     * Joins an identical in-flight computation or, if admission allows,
+     * starts a new one and waits for it.
+     */
+    private String coalesce(String key, Callable<String> computation) throws Exception {
+        CompletableFuture<String> future = inFlight.get(key);
+        if (future == null) {
+            if (!admission.tryAcquire()) {
+                rejected.increment();
+                throw new OverloadedException();
+            }
+            CompletableFuture<String> created = new CompletableFuture<>();
+            future = inFlight.putIfAbsent(key, created);
+            if (future == null) {
+                future = created;
+                computations.increment();
+                computeExecutor.execute(() -> run(key, created, computation));
+            } else {
+                admission.release();
+                coalesced.increment();
+            }
+        } else {
+            coalesced.increment();
+        }
+
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : e;
+        }
+    }
+
+    private void run(String key, CompletableFuture<String> future, Callable<String> computation) {
+        try {
+            CountDownLatch gate = computeGate;
+            if (gate != null) {
+                gate.await();
+            }
+            future.complete(computation.call());
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+        } finally {
+            inFlight.remove(key, future);
+            admission.release();
+        }
+    }
+
+    private void handle(HttpExchange exchange, Endpoint endpoint) throws IOException {
+        requests.increment();
+        int status = 200;
+        String body;
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                status = 405;
+                body = Json.error("Only GET is supported");
+            } else {
+                body = endpoint.respond(parseQuery(exchange.getRequestURI().getRawQuery()));
+            }
+        } catch (OverloadedException e) {
+            status = 503;
+            body = Json.error("Server is at capacity, retry later");
+            exchange.getResponseHeaders().set("Retry-After", "1");
+        } catch (SearchBudgetExceededException e) {
+            status = 504;
+            body = Json.error(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            status = 400;
+            body = Json.error(e.getMessage());
+        } catch (Exception e) {
+            status = 500;
+            body = Json.error(e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static int boardSize(Map<String, String> params, int max) {
+        String value = params.get("n");
+        if (value == null) {
+            throw new IllegalArgumentException("Missing parameter n");
+        }
+        int n;
+        try {
+            n = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Parameter n must be an integer");
+        }
+        if (n <= 0 || n > max) {
+            throw new IllegalArgumentException("Parameter n must be between 1 and " + max);
+        }
+        return n;
+    }
+
+    private static int[] parsePrefix(String value) {
+        if (value.isBlank()) {
+            return new int[0];
+        }
+        String[] parts = value.split(",");
+        int[] prefix = new int[parts.length];
+        try {
+            for (int i = 0; i < parts.length; i++) {
+                prefix[i] = Integer.parseInt(parts[i].trim());
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Parameter prefix must be a comma-separated list of columns");
+        }
+        return prefix;
+    }
+
+    private static Map<String, String> parseQuery(String query) {
+        Map<String, String> params = new HashMap<>();
+        if (query == null || query.isEmpty()) {
+            return params;
+        }
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            String name = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            params.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    @FunctionalInterface
+    private interface Endpoint {
+        String respond(Map<String, String> params) throws Exception;
+    }
+
+    private static final class OverloadedException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        private OverloadedException() {
+            super(null, null, false, false);
+        }
+    }
+}
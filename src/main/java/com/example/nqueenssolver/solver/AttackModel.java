@@ -0,0 +1,16 @@
+package com.example.nqueenssolver.solver;
+
+/**
+ * How queens attack each other on a {@link BoardVariant}.
+ */
+public enum AttackModel {
+
+    /** Classic queens: rows, columns and both diagonals. */
+    STANDARD,
+
+    /** Modular N-Queens: diagonals wrap around the board edges. */
+    TOROIDAL,
+
+    /** Superqueens: queen moves plus knight moves. */
+    SUPERQUEEN
+}
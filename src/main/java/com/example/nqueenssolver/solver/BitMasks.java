@@ -0,0 +1,36 @@
+package com.example.nqueenssolver.solver;
+
+/**
+ * Small helpers shared by the bitmask search engines. Bit {@code i} of a row
+ * mask stands for column {@code i}.
+ */
+final class BitMasks {
+
+    static final int MAX_BOARD_SIZE = 32;
+
+    private BitMasks() {
+    }
+
+    static int fullMask(int n) {
+        return n >= 32 ? -1 : (1 << n) - 1;
+    }
+
+    static void checkBoardSize(int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("Board size must be positive");
+        }
+        if (n > MAX_BOARD_SIZE) {
+            throw new IllegalArgumentException("Board size must not exceed " + MAX_BOARD_SIZE + " for bitmask search");
+        }
+    }
+
+    /**
+     * Returns the {@code index}-th lowest set bit of {@code mask} as a single-bit mask.
+     */
+    static int nthSetBit(int mask, int index) {
+        for (int i = 0; i < index; i++) {
+            mask &= mask - 1;
+        }
+        return mask & -mask;
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.nqueenssolver.solver;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Bitmask backtracking core shared by the counters and single-solution search.
+ * <p>
+ * A search state is the row index plus five masks: occupied columns, the two
+ * diagonal attack masks for the current row, and the columns used in the
+ * previous two rows (only read by {@link AttackModel#SUPERQUEEN} for knight
+ * attacks). The generic helpers ({@link #available}, {@link #nextLd},
+ * {@link #nextRd}) serve setup code and the less hot searches such as
+ * {@link #forEachSolution}; {@link #count} dispatches once on the
+ * attack model to a specialized loop so variants pay no per-node dispatch.
+ */
+final class BitboardEngine {
+
+    static final int CHECK_INTERVAL = 4096;
+
+    private final BoardVariant variant;
+    private final AttackModel model;
+    private final int n;
+    private final int full;
+    private final int[] blocked;
+
+    BitboardEngine(BoardVariant variant) {
+        this.variant = variant;
+        this.model = variant.getAttackModel();
+        this.n = variant.getSize();
+        this.full = BitMasks.fullMask(n);
+        this.blocked = variant.blockedRows();
+    }
+
+    BoardVariant getVariant() {
+        return variant;
+    }
+
+    int getSize() {
+        return n;
+    }
+
+    /**
+     * Returns the columns of {@code row} that are free in the given state.
+     */
+    int available(int row, int cols, int ld, int rd, int p1, int p2) {
+        int attacked = cols | ld | rd | blocked[row];
+        if (model == AttackModel.SUPERQUEEN) {
+            attacked |= knightAttacks(p1, p2);
+        }
+        return full & ~attacked;
+    }
+
+    /**
+     * Returns the left-diagonal mask for the next row after placing {@code bit}.
+     */
+    int nextLd(int ld, int bit) {
+        int mask = ld | bit;
+        if (model == AttackModel.TOROIDAL) {
+            return ((mask << 1) | (mask >>> (n - 1))) & full;
+        }
+        return (mask << 1) & full;
+    }
+
+    /**
+     * Returns the right-diagonal mask for the next row after placing {@code bit}.
+     */
+    int nextRd(int rd, int bit) {
+        int mask = rd | bit;
+        if (model == AttackModel.TOROIDAL) {
+            return ((mask >>> 1) | (mask << (n - 1))) & full;
+        }
+        return mask >>> 1;
+    }
+
+    /**
+     * Counts solutions below a state. {@code stats[0]} accumulates solutions
+     * and {@code stats[1]} visited nodes.
+     */
+    void count(int row, int cols, int ld, int rd, int p1, int p2, long[] stats) {
+        switch (model) {
+            case TOROIDAL -> countToroidal(row, cols, ld, rd, stats);
+            case SUPERQUEEN -> countSuperqueen(row, cols, ld, rd, p1, p2, stats);
+            default -> countStandard(row, cols, ld, rd, stats);
+        }
+    }
+
+    /**
+     * Depth-first search for the first solution below a state, trying lower
+     * columns first. Fills {@code queens} from {@code row} on.
+     */
+    boolean complete(int row, int cols, int ld, int rd, int p1, int p2, int[] queens) {
+        return complete(row, cols, ld, rd, p1, p2, queens, new long[] {Long.MAX_VALUE});
+    }
+
+    /**
+     * Like {@link #complete(int, int, int, int, int, int, int[])}, but visits
+     * at most {@code budget[0]} nodes and gives up if the thread is
+     * interrupted, which is checked every {@value #CHECK_INTERVAL} nodes.
+     * {@code budget[0]} is left at the remaining node count, or negative if
+     * the search gave up before deciding.
+     */
+    boolean complete(int row, int cols, int ld, int rd, int p1, int p2, int[] queens, long[] budget) {
+        if (--budget[0] < 0 || (budget[0] % CHECK_INTERVAL == 0 && Thread.currentThread().isInterrupted())) {
+            budget[0] = -1;
+            return false;
+        }
+        if (row == n) {
+            return true;
+        }
+        int available = available(row, cols, ld, rd, p1, p2);
+        while (available != 0) {
+            int bit = available & -available;
+            available ^= bit;
+            queens[row] = Integer.numberOfTrailingZeros(bit);
+            if (complete(row + 1, cols | bit, nextLd(ld, bit), nextRd(rd, bit), bit, p1, queens, budget)) {
+                return true;
+            }
+            if (budget[0] < 0) {
+                return false;
+            }
+        }
+        queens[row] = -1;
+        return false;
+    }
+
+    /**
+     * Passes every solution below a state to {@code action}, in lexicographic
+     * order. {@code queens} must hold the rows above {@code row}; the same
+     * array is passed for each solution, so copy it to keep it.
+     */
+    void forEachSolution(int row, int cols, int ld, int rd, int p1, int p2, int[] queens, Consumer<int[]> action) {
+        if (row == n) {
+            action.accept(queens);
+            return;
+        }
+        int available = available(row, cols, ld, rd, p1, p2);
+        while (available != 0) {
+            // Lowest column first keeps the output in lexicographic order.
+            int bit = available & -available;
+            available ^= bit;
+            queens[row] = Integer.numberOfTrailingZeros(bit);
+            forEachSolution(row + 1, cols | bit, nextLd(ld, bit), nextRd(rd, bit), bit, p1, queens, action);
+        }
+    }
+
+    /**
+     * Knuth random-probe estimate of the number of nodes below a state.
+     */
+    double estimateNodes(int row, int cols, int ld, int rd, int p1, int p2, int probes, Random random) {
+        if (probes <= 0) {
+            throw new IllegalArgumentException("Probe count must be positive");
+        }
+        double total = 0;
+        for (int p = 0; p < probes; p++) {
+            double product = 1;
+            double nodes = 1;
+            int c = cols;
+            int l = ld;
+            int r = rd;
+            int q1 = p1;
+            int q2 = p2;
+            for (int i = row; i < n; i++) {
+                int available = available(i, c, l, r, q1, q2);
+                int branches = Integer.bitCount(available);
+                if (branches == 0) {
+                    break;
+                }
+                product *= branches;
+                nodes += product;
+                int bit = BitMasks.nthSetBit(available, random.nextInt(branches));
+                c |= bit;
+                l = nextLd(l, bit);
+                r = nextRd(r, bit);
+                q2 = q1;
+                q1 = bit;
+            }
+            total += nodes;
+        }
+        return total / probes;
+    }
+
+    private int knightAttacks(int p1, int p2) {
+        return ((p1 << 2) | (p1 >>> 2) | (p2 << 1) | (p2 >>> 1)) & full;
+    }
+
+    private void countStandard(int row, int cols, int ld, int rd, long[] stats) {
+        stats[1]++;
+        if (row == n) {
+            stats[0]++;
+            return;
+        }
+        int available = full & ~(cols | ld | rd | blocked[row]);
+        while (available != 0) {
+            int bit = available & -available;
+            available ^= bit;
+            countStandard(row + 1, cols | bit, ((ld | bit) << 1) & full, (rd | bit) >>> 1, stats);
+        }
+    }
+
+    private void countToroidal(int row, int cols, int ld, int rd, long[] stats) {
+        stats[1]++;
+        if (row == n) {
+            stats[0]++;
+            return;
+        }
+        int shift = n - 1;
+        int available = full & ~(cols | ld | rd | blocked[row]);
+        while (available != 0) {
+            int bit = available & -available;
+            available ^= bit;
+            int l = ld | bit;
+            int r = rd | bit;
+            countToroidal(row + 1, cols | bit,
+                ((l << 1) | (l >>> shift)) & full,
+                ((r >>> 1) | (r << shift)) & full,
+                stats);
+        }
+    }
+
+    private void countSuperqueen(int row, int cols, int ld, int rd, int p1, int p2, long[] stats) {
+        stats[1]++;
+        if (row == n) {
+            stats[0]++;
+            return;
+        }
+        int knights = (p1 << 2) | (p1 >>> 2) | (p2 << 1) | (p2 >>> 1);
+        int available = full & ~(cols | ld | rd | knights | blocked[row]);
+        while (available != 0) {
+            int bit = available & -available;
+            available ^= bit;
+            countSuperqueen(row + 1, cols | bit, ((ld | bit) << 1) & full, (rd | bit) >>> 1, bit, p1, stats);
+        }
+    }
+}
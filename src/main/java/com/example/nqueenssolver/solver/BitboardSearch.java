@@ -0,0 +1,132 @@
+package com.example.nqueenssolver.solver;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Deterministic single-solution search on the bitmask engine.
+ * <p>
+ * Columns are tried lowest first, so {@link #findFirst(int)} returns the
+ * lexicographically smallest solution and {@link #complete(int, int[])} the
+ * smallest one that extends the given prefix. Results use the same
+ * {@code int[] queens} layout as {@link NQueensSolver#getQueens()}.
+ */
+public final class BitboardSearch {
+
+    private BitboardSearch() {
+    }
+
+    /**
+     * Returns the lexicographically first solution, or {@code null} if none exists.
+     */
+    public static int[] findFirst(int n) {
+        return complete(BoardVariant.standard(n), new int[0]);
+    }
+
+    /**
+     * Returns the lexicographically first solution of a board variant, or
+     * {@code null} if none exists.
+     */
+    public static int[] findFirst(BoardVariant variant) {
+        return complete(variant, new int[0]);
+    }
+
+    /**
+     * Completes a partial placement of the first {@code prefix.length} rows.
+     *
+     * @param n      board size
+     * @param prefix columns of the queens already placed in rows {@code 0..prefix.length-1}
+     * @return a full solution starting with {@code prefix}, or {@code null} if
+     *         the prefix conflicts or cannot be completed
+     */
+    public static int[] complete(int n, int[] prefix) {
+        return complete(BoardVariant.standard(n), prefix);
+    }
+
+    /**
+     * Completes a partial placement on a board variant.
+     *
+     * @see #complete(int, int[])
+     */
+    public static int[] complete(BoardVariant variant, int[] prefix) {
+        return complete(variant, prefix, Long.MAX_VALUE);
+    }
+
+    /**
+     * Completes a partial placement, visiting at most {@code maxNodes} search
+     * nodes. Some prefixes of boards in the 30s take minutes to decide, so
+     * callers that must answer promptly should pass a budget.
+     *
+     * @throws SearchBudgetExceededException if the budget ran out first
+     * @throws CancellationException         if the thread was interrupted
+     * @see #complete(int, int[])
+     */
+    public static int[] complete(BoardVariant variant, int[] prefix, long maxNodes) {
+        if (maxNodes <= 0) {
+            throw new IllegalArgumentException("Node budget must be positive");
+        }
+        BitboardEngine engine = new BitboardEngine(variant);
+        int n = variant.getSize();
+        int[] queens = new int[n];
+        Arrays.fill(queens, -1);
+
+        int[] state = new int[5];
+        if (!applyPrefix(engine, prefix, state, queens)) {
+            return null;
+        }
+        long[] budget = {maxNodes};
+        if (engine.complete(prefix.length, state[0], state[1], state[2], state[3], state[4], queens, budget)) {
+            return queens;
+        }
+        if (budget[0] < 0) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("Search for N=" + n + " was interrupted");
+            }
+            throw new SearchBudgetExceededException(maxNodes);
+        }
+        return null;
+    }
+
+    /**
+     * Places the prefix row by row, leaving the resulting
+     * {@code {cols, ld, rd, p1, p2}} masks in {@code state}.
+     *
+     * @param queens optional array receiving the prefix columns
+     * @return {@code false} if a prefix queen is attacked or blocked
+     */
+    static boolean applyPrefix(BitboardEngine engine, int[] prefix, int[] state, int[] queens) {
+        int n = engine.getSize();
+        if (prefix.length > n) {
+            throw new IllegalArgumentException("Prefix has " + prefix.length + " rows but the board has " + n);
+        }
+        int cols = 0;
+        int ld = 0;
+        int rd = 0;
+        int p1 = 0;
+        int p2 = 0;
+        for (int row = 0; row < prefix.length; row++) {
+            int col = prefix[row];
+            if (col < 0 || col >= n) {
+                throw new IllegalArgumentException("Invalid position: row=" + row + ", col=" + col);
+            }
+            int bit = 1 << col;
+            if ((engine.available(row, cols, ld, rd, p1, p2) & bit) == 0) {
+                return false;
+            }
+            if (queens != null) {
+                queens[row] = col;
+            }
+            cols |= bit;
+            ld = engine.nextLd(ld, bit);
+            rd = engine.nextRd(rd, bit);
+            p2 = p1;
+            p1 = bit;
+        }
+        state[0] = cols;
+        state[1] = ld;
+        state[2] = rd;
+        state[3] = p1;
+        state[4] = p2;
+        return true;
+    }
+}
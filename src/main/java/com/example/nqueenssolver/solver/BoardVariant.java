@@ -0,0 +1,112 @@
+package com.example.nqueenssolver.solver;
+
+import java.util.Arrays;
+
+/**
+ * Board description for the bitmask engines: size, attack model and an
+ * optional set of blocked squares.
+ * <p>
+ * Blocked squares are given as one mask per row, bit {@code c} meaning that
+ * column {@code c} of that row may not hold a queen. Blocked squares only
+ * remove placements; they do not interrupt attack lines.
+ */
+public final class BoardVariant {
+
+    private final int n;
+    private final AttackModel attackModel;
+    private final int[] blockedRows;
+
+    private BoardVariant(int n, AttackModel attackModel, int[] blockedRows) {
+        BitMasks.checkBoardSize(n);
+        if (attackModel == null) {
+            throw new IllegalArgumentException("Attack model must not be null");
+        }
+        this.n = n;
+        this.attackModel = attackModel;
+        this.blockedRows = blockedRows;
+    }
+
+    public static BoardVariant standard(int n) {
+        return new BoardVariant(n, AttackModel.STANDARD, new int[n]);
+    }
+
+    public static BoardVariant toroidal(int n) {
+        return new BoardVariant(n, AttackModel.TOROIDAL, new int[n]);
+    }
+
+    public static BoardVariant superqueen(int n) {
+        return new BoardVariant(n, AttackModel.SUPERQUEEN, new int[n]);
+    }
+
+    public static BoardVariant of(int n, AttackModel attackModel) {
+        return new BoardVariant(n, attackModel, new int[n]);
+    }
+
+    /**
+     * Returns a copy of this variant with the given squares blocked.
+     *
+     * @param blockedRows one mask per row; bit {@code c} blocks column {@code c}
+     */
+    public BoardVariant withBlockedRows(int[] blockedRows) {
+        if (blockedRows == null || blockedRows.length != n) {
+            throw new IllegalArgumentException("Expected " + n + " blocked-row masks");
+        }
+        int full = BitMasks.fullMask(n);
+        for (int row = 0; row < n; row++) {
+            if ((blockedRows[row] & ~full) != 0) {
+                throw new IllegalArgumentException("Blocked mask for row " + row + " has bits outside the board");
+            }
+        }
+        return new BoardVariant(n, attackModel, blockedRows.clone());
+    }
+
+    public int getSize() {
+        return n;
+    }
+
+    public AttackModel getAttackModel() {
+        return attackModel;
+    }
+
+    /**
+     * Returns the blocked-square mask of one row.
+     */
+    public int getBlockedMask(int row) {
+        return blockedRows[row];
+    }
+
+    public boolean hasBlockedSquares() {
+        for (int mask : blockedRows) {
+            if (mask != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int[] blockedRows() {
+        return blockedRows;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BoardVariant)) {
+            return false;
+        }
+        BoardVariant other = (BoardVariant) o;
+        return n == other.n && attackModel == other.attackModel && Arrays.equals(blockedRows, other.blockedRows);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * n + attackModel.hashCode()) + Arrays.hashCode(blockedRows);
+    }
+
+    @Override
+    public String toString() {
+        return attackModel + " " + n + "x" + n + (hasBlockedSquares() ? " with blocked squares" : "");
+    }
+}
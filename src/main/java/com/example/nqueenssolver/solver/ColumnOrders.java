@@ -0,0 +1,44 @@
+package com.example.nqueenssolver.solver;
+
+import java.util.Random;
+
+/**
+ * Per-row random column orders for randomized backtracking. Each row keeps
+ * its own array, allocated on first use, so backtracking never allocates.
+ * The shuffle draws the same sequence as {@code Collections.shuffle}, so
+ * seeded runs are reproducible.
+ */
+final class ColumnOrders {
+
+    private final int n;
+    private final Random random;
+    private final int[][] orders;
+
+    ColumnOrders(int n, Random random) {
+        this.n = n;
+        this.random = random;
+        this.orders = new int[n][];
+    }
+
+    /**
+     * Returns a freshly shuffled column order for {@code row}. The array is
+     * reused by the next call for the same row.
+     */
+    int[] shuffled(int row) {
+        int[] columns = orders[row];
+        if (columns == null) {
+            columns = new int[n];
+            orders[row] = columns;
+        }
+        for (int i = 0; i < n; i++) {
+            columns[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = columns[i];
+            columns[i] = columns[j];
+            columns[j] = tmp;
+        }
+        return columns;
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.nqueenssolver.solver;
+
+import java.util.Arrays;
+
+/**
+ * Keeps a placement's validity up to date under single-queen moves.
+ * <p>
+ * Per-column and per-diagonal occupancy counts are maintained together with
+ * the total number of attacking pairs, so {@link #moveQueen(int, int)} and
+ * {@link #isValid()} are O(1) after an O(N) initial load.
+ */
+public class IncrementalValidator {
+
+    private final int n;
+    private final int[] queens;
+    private final int[] columnCounts;
+    private final int[] diagonalCounts;
+    private final int[] antiDiagonalCounts;
+    private long attackingPairs;
+    private int emptyRows;
+
+    /**
+     * @param queens initial placement; -1 marks an empty row. The array is copied.
+     * @throws IllegalArgumentException if a column lies outside the board or the
+     *         board exceeds {@link SolutionValidator#MAX_BOARD_SIZE}
+     */
+    public IncrementalValidator(int[] queens) {
+        this.n = queens.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("Placement is empty");
+        }
+        SolutionValidator.checkBoardSize(n);
+        this.queens = new int[n];
+        this.columnCounts = new int[n];
+        this.diagonalCounts = new int[2 * n - 1];
+        this.antiDiagonalCounts = new int[2 * n - 1];
+        Arrays.fill(this.queens, -1);
+        emptyRows = n;
+        for (int row = 0; row < n; row++) {
+            if (queens[row] != -1) {
+                moveQueen(row, queens[row]);
+            }
+        }
+    }
+
+    /**
+     * Moves the queen of {@code row} to {@code col}, or removes it when {@code col} is -1.
+     */
+    public void moveQueen(int row, int col) {
+        if (row < 0 || row >= n || col < -1 || col >= n) {
+            throw new IllegalArgumentException("Invalid position: row=" + row + ", col=" + col);
+        }
+        int old = queens[row];
+        if (old == col) {
+            return;
+        }
+        if (old == -1) {
+            emptyRows--;
+        } else {
+            attackingPairs -= --columnCounts[old];
+            attackingPairs -= --diagonalCounts[row - old + n - 1];
+            attackingPairs -= --antiDiagonalCounts[row + old];
+        }
+        if (col == -1) {
+            emptyRows++;
+        } else {
+            attackingPairs += columnCounts[col]++;
+            attackingPairs += diagonalCounts[row - col + n - 1]++;
+            attackingPairs += antiDiagonalCounts[row + col]++;
+        }
+        queens[row] = col;
+    }
+
+    /**
+     * Returns whether every row holds a queen and no two queens attack each other.
+     */
+    public boolean isValid() {
+        return emptyRows == 0 && attackingPairs == 0;
+    }
+
+    /**
+     * Returns the number of attacking queen pairs. Three queens on one line
+     * count as three pairs.
+     */
+    public long getAttackingPairs() {
+        return attackingPairs;
+    }
+
+    public int getEmptyRows() {
+        return emptyRows;
+    }
+
+    /**
+     * Returns how many other queens attack the queen in {@code row}.
+     */
+    public int conflictsAt(int row) {
+        int col = queens[row];
+        if (col == -1) {
+            return 0;
+        }
+        return columnCounts[col] - 1 + diagonalCounts[row - col + n - 1] - 1 + antiDiagonalCounts[row + col] - 1;
+    }
+
+    public int queenAt(int row) {
+        return queens[row];
+    }
+
+    public int getSize() {
+        return n;
+    }
+
+    /**
+     * Copies the current placement into {@code dst}.
+     */
+    public void copyInto(int[] dst) {
+        System.arraycopy(queens, 0, dst, 0, n);
+    }
+}
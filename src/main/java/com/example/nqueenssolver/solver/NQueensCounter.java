@@ -0,0 +1,344 @@
+package com.example.nqueenssolver.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Exhaustive N-Queens counter built on a bitmask backtracking engine.
+ * Standard, toroidal and superqueen boards, with or without blocked squares,
+ * are supported through {@link BoardVariant}.
+ * <p>
+ * The first few rows are enumerated up front into independent prefix subtrees
+ * which worker threads pull from a shared queue, largest estimated subtree
+ * first. Counters are only touched when a subtree completes, and progress is
+ * published by a separate reporter thread at a fixed rate, so the inner loop
+ * carries no reporting overhead.
+ * <p>
+ * Runs are observable in Java Flight Recorder through
+ * {@link SolverPhaseEvent}, {@link SolverTaskEvent},
+ * {@link SolverThroughputEvent} and {@link SolverCancelledEvent}. Each event
+ * is filled in only when it will be committed, so the events cost next to
+ * nothing when no recording has them enabled.
+ */
+public class NQueensCounter {
+
+    private static final long DEFAULT_REPORT_INTERVAL_MILLIS = 500;
+    private static final int ESTIMATE_PROBES = 16;
+
+    private final int n;
+    private final int threadCount;
+    private final BitboardEngine engine;
+    private final List<ProgressListener> listeners = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean cancelled = new AtomicBoolean(false);
+    private volatile long reportIntervalMillis = DEFAULT_REPORT_INTERVAL_MILLIS;
+
+    private final AtomicInteger completedSubtrees = new AtomicInteger();
+    private final DoubleAdder completedWork = new DoubleAdder();
+    private final LongAdder nodes = new LongAdder();
+    private final LongAdder solutions = new LongAdder();
+    private volatile int totalSubtrees;
+    private volatile double totalWork;
+    private volatile long startNanos;
+    private long lastSampleNodes;
+    private long lastSampleNanos;
+
+    public NQueensCounter(int n, int threadCount) {
+        this(BoardVariant.standard(n), threadCount);
+    }
+
+    public NQueensCounter(BoardVariant variant, int threadCount) {
+        if (variant == null) {
+            throw new IllegalArgumentException("Board variant must not be null");
+        }
+        if (threadCount <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive");
+        }
+        this.n = variant.getSize();
+        this.threadCount = threadCount;
+        this.engine = new BitboardEngine(variant);
+    }
+
+    public void addProgressListener(ProgressListener listener) {
+        if (listener != null) {
+            listeners.add(listener);
+        }
+    }
+
+    public void removeProgressListener(ProgressListener listener) {
+        listeners.remove(listener);
+    }
+
+    public void setReportInterval(long interval, TimeUnit unit) {
+        long millis = unit.toMillis(interval);
+        if (millis <= 0) {
+            throw new IllegalArgumentException("Report interval must be at least one millisecond");
+        }
+        this.reportIntervalMillis = millis;
+    }
+
+    /**
+     * Requests cancellation. Workers stop at the next subtree boundary and
+     * {@link #count()} throws {@link CancellationException}. Cancellation is
+     * permanent; create a new counter to count again.
+     */
+    public void cancel() {
+        if (cancelled.compareAndSet(false, true)) {
+            SolverCancelledEvent event = new SolverCancelledEvent();
+            if (event.shouldCommit()) {
+                event.boardSize = n;
+                event.completedSubtrees = completedSubtrees.get();
+                event.totalSubtrees = totalSubtrees;
+                event.nodes = nodes.sum();
+                event.commit();
+            }
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled.get();
+    }
+
+    public int getSize() {
+        return n;
+    }
+
+    public BoardVariant getVariant() {
+        return engine.getVariant();
+    }
+
+    /**
+     * Counts all solutions. The finished progress report is always the last
+     * one listeners receive.
+     *
+     * @return the number of distinct solutions
+     * @throws InterruptedException  if the calling thread is interrupted while waiting
+     * @throws CancellationException if {@link #cancel()} was called
+     */
+    public long count() throws InterruptedException {
+        resetCounters();
+        SolverPhaseEvent partition = new SolverPhaseEvent();
+        partition.begin();
+        List<Subtree> subtrees = createSubtrees();
+        totalSubtrees = subtrees.size();
+        totalWork = subtrees.stream().mapToDouble(s -> s.estimatedNodes).sum();
+        commitPhase(partition, SolverPhaseEvent.PARTITION);
+
+        SolverPhaseEvent counting = new SolverPhaseEvent();
+        counting.begin();
+
+        ScheduledExecutorService reporter = startReporter();
+        ExecutorService workers = WorkerPools.newFixedPool("Counter", threadCount);
+        try {
+            AtomicInteger next = new AtomicInteger();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(workers.submit(() -> drain(subtrees, next)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Counting worker failed", e.getCause());
+        } catch (InterruptedException e) {
+            cancel();
+            throw e;
+        } finally {
+            workers.shutdownNow();
+            reporter.shutdownNow();
+            commitPhase(counting, SolverPhaseEvent.COUNT);
+        }
+
+        if (cancelled.get()) {
+            throw new CancellationException("Count for N=" + n + " was cancelled");
+        }
+        // A report that was already running must not land after the final one.
+        reporter.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        publish(snapshot(true));
+        return solutions.sum();
+    }
+
+    /**
+     * Returns a snapshot of the current or most recent run.
+     */
+    public SearchProgress getProgress() {
+        return snapshot(false);
+    }
+
+    private void drain(List<Subtree> subtrees, AtomicInteger next) {
+        int index;
+        while (!cancelled.get() && (index = next.getAndIncrement()) < subtrees.size()) {
+            Subtree subtree = subtrees.get(index);
+            long[] stats = new long[2];
+            SolverTaskEvent event = new SolverTaskEvent();
+            event.begin();
+            engine.count(subtree.row, subtree.cols, subtree.ld, subtree.rd, subtree.p1, subtree.p2, stats);
+            if (event.shouldCommit()) {
+                event.boardSize = n;
+                event.prefixId = subtree.id;
+                event.prefix = Arrays.toString(subtree.prefix);
+                event.estimatedNodes = subtree.estimatedNodes;
+                event.nodes = stats[1];
+                event.solutions = stats[0];
+                event.commit();
+            }
+            solutions.add(stats[0]);
+            nodes.add(stats[1]);
+            completedWork.add(subtree.estimatedNodes);
+            completedSubtrees.incrementAndGet();
+        }
+    }
+
+    private List<Subtree> createSubtrees() {
+        int depth = prefixDepth();
+        List<Subtree> subtrees = new ArrayList<>();
+        collectPrefixes(0, depth, 0, 0, 0, 0, 0, new int[depth], subtrees);
+
+        Random random = new Random(n);
+        for (Subtree subtree : subtrees) {
+            subtree.estimatedNodes = engine.estimateNodes(subtree.row, subtree.cols, subtree.ld, subtree.rd,
+                subtree.p1, subtree.p2, ESTIMATE_PROBES, random);
+        }
+        subtrees.sort((a, b) -> Double.compare(b.estimatedNodes, a.estimatedNodes));
+        return subtrees;
+    }
+
+    private void collectPrefixes(int row, int depth, int cols, int ld, int rd, int p1, int p2, int[] prefix,
+                                 List<Subtree> out) {
+        if (row == depth) {
+            out.add(new Subtree(out.size(), prefix.clone(), row, cols, ld, rd, p1, p2));
+            return;
+        }
+        int available = engine.available(row, cols, ld, rd, p1, p2);
+        while (available != 0) {
+            int bit = available & -available;
+            available ^= bit;
+            prefix[row] = Integer.numberOfTrailingZeros(bit);
+            collectPrefixes(row + 1, depth, cols | bit, engine.nextLd(ld, bit), engine.nextRd(rd, bit), bit, p1,
+                prefix, out);
+        }
+    }
+
+    private int prefixDepth() {
+        if (n <= 3) {
+            return 1;
+        } else if (n < 12) {
+            return 2;
+        } else {
+            return 3;
+        }
+    }
+
+    private void resetCounters() {
+        completedSubtrees.set(0);
+        completedWork.reset();
+        nodes.reset();
+        solutions.reset();
+        totalSubtrees = 0;
+        totalWork = 0;
+        startNanos = System.nanoTime();
+    }
+
+    private ScheduledExecutorService startReporter() {
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "NQueens-Progress-" + n);
+            t.setDaemon(true);
+            return t;
+        });
+        long interval = reportIntervalMillis;
+        lastSampleNodes = 0;
+        lastSampleNanos = startNanos;
+        reporter.scheduleAtFixedRate(() -> {
+            publish(snapshot(false));
+            sampleThroughput();
+        }, interval, interval, TimeUnit.MILLISECONDS);
+        return reporter;
+    }
+
+    /**
+     * Runs on the reporter thread only, which owns the previous-sample fields.
+     */
+    private void sampleThroughput() {
+        SolverThroughputEvent event = new SolverThroughputEvent();
+        if (event.shouldCommit()) {
+            long now = System.nanoTime();
+            long visited = nodes.sum();
+            event.boardSize = n;
+            event.completedSubtrees = completedSubtrees.get();
+            event.totalSubtrees = totalSubtrees;
+            event.nodes = visited;
+            event.nodesPerSecond = now > lastSampleNanos
+                ? (visited - lastSampleNodes) * 1_000_000_000.0 / (now - lastSampleNanos)
+                : 0.0;
+            event.commit();
+            lastSampleNodes = visited;
+            lastSampleNanos = now;
+        }
+    }
+
+    private void commitPhase(SolverPhaseEvent event, String phase) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.phase = phase;
+            event.boardSize = n;
+            event.variant = engine.getVariant().toString();
+            event.threads = threadCount;
+            event.subtrees = totalSubtrees;
+            event.nodes = SolverPhaseEvent.COUNT.equals(phase) ? nodes.sum() : 0;
+            event.solutions = SolverPhaseEvent.COUNT.equals(phase) ? solutions.sum() : 0;
+            event.cancelled = cancelled.get();
+            event.commit();
+        }
+    }
+
+    private SearchProgress snapshot(boolean finished) {
+        return new SearchProgress(completedSubtrees.get(), totalSubtrees, completedWork.sum(), totalWork,
+            nodes.sum(), solutions.sum(), System.nanoTime() - startNanos, finished);
+    }
+
+    private void publish(SearchProgress progress) {
+        for (ProgressListener listener : listeners) {
+            try {
+                listener.onProgress(progress);
+            } catch (RuntimeException e) {
+                System.err.println("Progress listener failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private static final class Subtree {
+        private final int id;
+        private final int[] prefix;
+        private final int row;
+        private final int cols;
+        private final int ld;
+        private final int rd;
+        private final int p1;
+        private final int p2;
+        private double estimatedNodes;
+
+        private Subtree(int id, int[] prefix, int row, int cols, int ld, int rd, int p1, int p2) {
+            this.id = id;
+            this.prefix = prefix;
+            this.row = row;
+            this.cols = cols;
+            this.ld = ld;
+            this.rd = rd;
+            this.p1 = p1;
+            this.p2 = p2;
+        }
+    }
+}
@@ -1,16 +1,18 @@
 package com.example.nqueenssolver.solver;
 
+import java.nio.IntBuffer;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
+import java.util.BitSet;
 import java.util.Random;
-import java.util.ArrayList;
+import java.util.function.IntUnaryOperator;
 
 public class NQueensSolver {
 
     private final int[] queens;
     private final int n;
     private final Random random;
+    private final ColumnOrders columnOrders;
+    private final IntUnaryOperator columnView;
 
     public NQueensSolver(int n, Random random) {
         if (n <= 0) {
@@ -19,6 +21,8 @@ public class NQueensSolver {
         this.n = n;
         this.queens = new int[n];
         this.random = random != null ? random : new Random();
+        this.columnOrders = new ColumnOrders(n, this.random);
+        this.columnView = this::queenAt;
 
         Arrays.fill(queens, -1);
     }
@@ -32,7 +36,7 @@ public class NQueensSolver {
             return true;
         }
 
-        List<Integer> shuffledColumns = getShuffledColumns();
+        int[] shuffledColumns = columnOrders.shuffled(row);
 
         for (int col : shuffledColumns) {
             if (isSafe(row, col)) {
@@ -58,19 +62,73 @@ public class NQueensSolver {
         return true;
     }
 
-    private List<Integer> getShuffledColumns() {
-        List<Integer> columns = new ArrayList<>();
-        for (int i = 0; i < n; i++) {
-            columns.add(i);
+    /**
+     * Returns a copy of the queen positions. Prefer {@link #queenAt(int)},
+     * {@link #copyInto(int[])} or {@link #asIntBuffer()} on hot paths.
+     */
+    public int[] getQueens() {
+        return queens.clone();
+    }
+
+    /**
+     * Returns the column of the queen in {@code row}, or -1 if the row is empty.
+     */
+    public int queenAt(int row) {
+        return queens[row];
+    }
+
+    /**
+     * Copies the queen positions into {@code dst} without allocating.
+     *
+     * @param dst destination array of at least {@link #getSize()} elements
+     */
+    public void copyInto(int[] dst) {
+        if (dst == null || dst.length < n) {
+            throw new IllegalArgumentException("Destination must hold at least " + n + " elements");
         }
-        Collections.shuffle(columns, random);
-        return columns;
+        System.arraycopy(queens, 0, dst, 0, n);
     }
 
-    public int[] getQueens() {
-        return queens.clone();
+    /**
+     * Returns a live, allocation-free view mapping a row to its queen's column.
+     * The same instance is returned on every call.
+     */
+    public IntUnaryOperator columnView() {
+        return columnView;
+    }
+
+    /**
+     * Returns a read-only buffer backed directly by the queen positions. The
+     * buffer reflects later changes; no queen data is copied.
+     */
+    public IntBuffer asIntBuffer() {
+        return IntBuffer.wrap(queens).asReadOnlyBuffer();
+    }
+
+    /**
+     * Exports the board as a bit set with bit {@code row * n + col} set for
+     * every queen. This takes N²/8 bytes instead of the 4·N² of
+     * {@link #getChessboard()}, and is limited to N of at most 46340.
+     */
+    public BitSet toBitSet() {
+        if ((long) n * n > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Board too large for a bit set export: " + n);
+        }
+        BitSet board = new BitSet(n * n);
+        for (int i = 0; i < n; i++) {
+            int queenCol = queens[i];
+            if (queenCol != -1) {
+                board.set(i * n + queenCol);
+            }
+        }
+        return board;
     }
 
+    /**
+     * Returns the board as a dense N×N matrix. This allocates 4·N² bytes and is
+     * only meant for small boards. Large boards should use the O(N) paths
+     * {@link #columnView()}, {@link #asIntBuffer()} or {@link #copyInto(int[])}.
+     */
     public int[][] getChessboard() {
         int[][] chessboard = new int[n][n];
         for (int i = 0; i < n; i++) {
@@ -12,6 +12,9 @@ public class NQueensThread extends Thread {
     private final Random random;
     private final ChessboardPanel chessboardPanel;
     private final NQueensSolver solver;
+    private final ColumnOrders columnOrders;
+    private final int[] displayQueens;
+    private final Runnable displayUpdate = this::refreshDisplay;
     private final AtomicBoolean solutionFound = new AtomicBoolean(false);
     private final Consumer<String> messageCallback;
     private volatile boolean shouldStop = false;
@@ -22,6 +25,8 @@ public class NQueensThread extends Thread {
         this.random = new Random(System.currentTimeMillis() + threadNumber);
         this.chessboardPanel = new ChessboardPanel(new int[n]);
         this.solver = new NQueensSolver(n, random);
+        this.columnOrders = new ColumnOrders(n, random);
+        this.displayQueens = new int[n];
         this.messageCallback = messageCallback;
         this.setName("NQueens-Thread-" + threadNumber);
     }
@@ -80,7 +85,7 @@ public class NQueensThread extends Thread {
             return;
         }
 
-        java.util.List<Integer> shuffledColumns = getShuffledColumns();
+        int[] shuffledColumns = columnOrders.shuffled(row);
 
         for (int col : shuffledColumns) {
             if (shouldStop) {
@@ -90,7 +95,7 @@ public class NQueensThread extends Thread {
             if (isSafe(row, col)) {
                 solver.placeQueen(row, col);
 
-                updateChessboardDisplay(solver.getQueens().clone());
+                updateChessboardDisplay();
                 Thread.sleep(300);
 
                 solveNQueensWithVisualization(row + 1);
@@ -104,26 +109,28 @@ public class NQueensThread extends Thread {
         }
     }
 
-    private void updateChessboardDisplay(int[] queens) {
-        SwingUtilities.invokeLater(() -> {
-            chessboardPanel.updateQueens(queens);
-            chessboardPanel.repaint();
-        });
+    /**
+     * Hands the current placement to the panel through a buffer shared with
+     * the event dispatch thread, so the search loop does not allocate.
+     */
+    private void updateChessboardDisplay() {
+        synchronized (displayQueens) {
+            solver.copyInto(displayQueens);
+        }
+        SwingUtilities.invokeLater(displayUpdate);
     }
 
-    private java.util.List<Integer> getShuffledColumns() {
-        java.util.List<Integer> columns = new java.util.ArrayList<>();
-        for (int i = 0; i < n; i++) {
-            columns.add(i);
+    private void refreshDisplay() {
+        synchronized (displayQueens) {
+            chessboardPanel.showQueens(displayQueens);
         }
-        java.util.Collections.shuffle(columns, random);
-        return columns;
+        chessboardPanel.repaint();
     }
 
     private boolean isSafe(int row, int col) {
-        int[] queens = solver.getQueens();
         for (int i = 0; i < row; i++) {
-            if (queens[i] == col || Math.abs(queens[i] - col) == Math.abs(i - row)) {
+            int queenCol = solver.queenAt(i);
+            if (queenCol == col || Math.abs(queenCol - col) == Math.abs(i - row)) {
                 return false;
             }
         }
@@ -154,6 +161,18 @@ public class NQueensThread extends Thread {
             this.queens = queens != null ? queens.clone() : new int[0];
         }
 
+        /**
+         * Copies {@code source} into the panel's own array, reusing it when
+         * the size matches. Must be called on the event dispatch thread.
+         */
+        void showQueens(int[] source) {
+            if (queens.length == source.length) {
+                System.arraycopy(source, 0, queens, 0, source.length);
+            } else {
+                queens = source.clone();
+            }
+        }
+
         @Override
         protected void paintComponent(Graphics g) {
             super.paintComponent(g);
@@ -0,0 +1,437 @@
+package com.example.nqueenssolver.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Multi-threaded min-conflicts search for very large boards (N around 10^7).
+ * <p>
+ * Queens are kept as a permutation, so columns never clash and only the two
+ * diagonal families need repair. Rows are dealt out to the workers in chunks
+ * of {@value #ROW_CHUNK}, round-robin, so every worker owns rows spread over
+ * the whole board and only ever swaps columns between two of its own rows.
+ * A worker therefore owns the {@code queens} entries it writes, while the
+ * shared diagonal counters are updated with per-cell atomic adds. Because
+ * each worker's rows and columns are a sample of the whole board, the greedy
+ * start and the repairs behave as in a single-threaded run, and the total
+ * work stays about the same as workers are added.
+ * <p>
+ * Workers decide concurrently, so two of them can occasionally move queens
+ * onto the same free diagonal. Such conflicts are reconciled in batches: each
+ * round re-checks the rows it touched, the whole board is rescanned when that
+ * list runs dry, and the final placement is always checked with
+ * {@link SolutionValidator} before {@link #solve()} reports success.
+ * <p>
+ * On small boards the repairs can get stuck with a few conflicts left. If
+ * {@value #STALL_ROUNDS} rounds pass without reducing the number of
+ * conflicted rows, the search restarts from a fresh random permutation,
+ * still within the overall round limit. Large boards improve every round or
+ * two and never restart.
+ */
+public class ParallelLocalSearch {
+
+    static final int ROW_CHUNK = 64;
+    private static final int MIN_ROWS_PER_WORKER = 1024;
+    private static final int GREEDY_TRIES = 32;
+    private static final int GREEDY_STAGES = 64;
+    private static final int MIN_REPAIR_TRIES = 16;
+    private static final int ROUND_TRY_BUDGET = 1 << 20;
+    private static final int DEFAULT_MAX_ROUNDS = 1000;
+    private static final int STALL_ROUNDS = 20;
+
+    private final int n;
+    private final int threadCount;
+    private final SplittableRandom random;
+    private final int[] queens;
+    private final AtomicIntegerArray diagonals;
+    private final AtomicIntegerArray antiDiagonals;
+    private volatile int maxRounds = DEFAULT_MAX_ROUNDS;
+
+    private final LongAdder repairs = new LongAdder();
+    private int rounds;
+    private int restarts;
+    private long elapsedNanos;
+    private long repairNanos;
+
+    public ParallelLocalSearch(int n, int threadCount, long seed) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("Board size must be positive");
+        }
+        if (threadCount <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive");
+        }
+        this.n = n;
+        this.threadCount = threadCount;
+        this.random = new SplittableRandom(seed);
+        this.queens = new int[n];
+        this.diagonals = new AtomicIntegerArray(2 * n - 1);
+        this.antiDiagonals = new AtomicIntegerArray(2 * n - 1);
+    }
+
+    public void setMaxRounds(int maxRounds) {
+        if (maxRounds <= 0) {
+            throw new IllegalArgumentException("Round limit must be positive");
+        }
+        this.maxRounds = maxRounds;
+    }
+
+    /**
+     * Searches for a solution. Local search is aimed at large boards, but
+     * thanks to restarts small ones (N of 4 and up) are solved too, in a few
+     * dozen rounds.
+     *
+     * @return {@code true} if a verified solution was found within the round limit
+     */
+    public boolean solve() throws InterruptedException {
+        if (n == 2 || n == 3) {
+            return false;
+        }
+        long start = System.nanoTime();
+        int workers = Math.max(1, Math.min(threadCount, n / MIN_ROWS_PER_WORKER));
+        ExecutorService executor = WorkerPools.newFixedPool("LocalSearch", workers);
+        try {
+            initialize(executor, workers);
+            repairs.reset();
+            rounds = 0;
+            restarts = 0;
+            long repairStart = System.nanoTime();
+            int[] candidates = findConflictedRows();
+            int fewest = candidates.length;
+            int stalled = 0;
+            while (candidates.length > 0) {
+                if (rounds >= maxRounds) {
+                    repairNanos = System.nanoTime() - repairStart;
+                    return false;
+                }
+                candidates = runRepairRound(executor, workers, candidates);
+                rounds++;
+                if (candidates.length == 0) {
+                    candidates = findConflictedRows();
+                }
+                if (candidates.length < fewest) {
+                    fewest = candidates.length;
+                    stalled = 0;
+                } else if (++stalled >= STALL_ROUNDS) {
+                    // Small boards can get stuck in a local minimum; start over from a new permutation.
+                    initialize(executor, workers);
+                    restarts++;
+                    candidates = findConflictedRows();
+                    fewest = candidates.length;
+                    stalled = 0;
+                }
+            }
+            repairNanos = System.nanoTime() - repairStart;
+        } finally {
+            executor.shutdownNow();
+            elapsedNanos = System.nanoTime() - start;
+        }
+        return SolutionValidator.findConflict(queens) == null;
+    }
+
+    /**
+     * Builds a random permutation, then lets every worker greedily re-seat the
+     * queens of its rows into columns that are free on both diagonals. The
+     * workers advance in lock-step stages, so the board fills from top to
+     * bottom at the same pace everywhere, as it would in a sequential pass.
+     */
+    private void initialize(ExecutorService executor, int workers) throws InterruptedException {
+        for (int i = 0; i < n; i++) {
+            queens[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = queens[i];
+            queens[i] = queens[j];
+            queens[j] = tmp;
+        }
+        for (int i = 0; i < 2 * n - 1; i++) {
+            diagonals.set(i, 0);
+            antiDiagonals.set(i, 0);
+        }
+        SplittableRandom[] randoms = new SplittableRandom[workers];
+        for (int w = 0; w < workers; w++) {
+            randoms[w] = random.split();
+        }
+        for (int stage = 0; stage < GREEDY_STAGES; stage++) {
+            List<Callable<Void>> tasks = new ArrayList<>(workers);
+            for (int w = 0; w < workers; w++) {
+                int worker = w;
+                int owned = ownedRows(worker, workers);
+                int from = (int) ((long) owned * stage / GREEDY_STAGES);
+                int to = (int) ((long) owned * (stage + 1) / GREEDY_STAGES);
+                SplittableRandom workerRandom = randoms[w];
+                tasks.add(() -> {
+                    greedyPlace(worker, workers, owned, from, to, workerRandom);
+                    return null;
+                });
+            }
+            invokeAll(executor, tasks);
+        }
+    }
+
+    /**
+     * Hands every candidate row to the worker that owns it and collects the
+     * rows that are still, or newly, in conflict.
+     */
+    private int[] runRepairRound(ExecutorService executor, int workers, int[] candidates) throws InterruptedException {
+        IntList[] buckets = new IntList[workers];
+        for (int w = 0; w < workers; w++) {
+            buckets[w] = new IntList();
+        }
+        for (int row : candidates) {
+            buckets[owner(row, workers)].add(row);
+        }
+
+        // Spend more attempts per queen once only a few conflicts are left.
+        int tries = Math.min(n, Math.max(MIN_REPAIR_TRIES, ROUND_TRY_BUDGET / candidates.length));
+        List<Callable<IntList>> tasks = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            int worker = w;
+            IntList bucket = buckets[w];
+            SplittableRandom workerRandom = random.split();
+            tasks.add(() -> repair(bucket, worker, workers, tries, workerRandom));
+        }
+
+        BitSet seen = new BitSet();
+        IntList next = new IntList();
+        for (IntList remaining : invokeAll(executor, tasks)) {
+            for (int i = 0; i < remaining.size; i++) {
+                int row = remaining.values[i];
+                if (!seen.get(row)) {
+                    seen.set(row);
+                    next.add(row);
+                }
+            }
+        }
+        return next.toArray();
+    }
+
+    private <T> List<T> invokeAll(ExecutorService executor, List<Callable<T>> tasks) throws InterruptedException {
+        List<T> results = new ArrayList<>(tasks.size());
+        try {
+            for (Future<T> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Local search worker failed", e.getCause());
+        }
+        return results;
+    }
+
+    /**
+     * Places the owned rows with indices {@code from..to-1}, each drawing its
+     * column from the worker's rows that are not placed yet.
+     */
+    private void greedyPlace(int worker, int workers, int owned, int from, int to, SplittableRandom rnd) {
+        for (int k = from; k < to; k++) {
+            int row = ownedRow(worker, workers, k);
+            int remaining = owned - k;
+            for (int t = 0; t < GREEDY_TRIES; t++) {
+                int other = ownedRow(worker, workers, k + rnd.nextInt(remaining));
+                int col = queens[other];
+                if (diagonals.get(row - col + n - 1) == 0 && antiDiagonals.get(row + col) == 0) {
+                    queens[other] = queens[row];
+                    queens[row] = col;
+                    break;
+                }
+            }
+            add(row, queens[row]);
+        }
+    }
+
+    /**
+     * One pass over a worker's candidate rows: every conflicted queen tries a
+     * few random swap partners among the worker's rows and keeps the first
+     * swap that lowers the local conflict count.
+     *
+     * @return rows of the worker that are in conflict after the pass
+     */
+    private IntList repair(IntList candidates, int worker, int workers, int tries, SplittableRandom rnd) {
+        int owned = ownedRows(worker, workers);
+        IntList touched = new IntList();
+        long swaps = 0;
+        for (int k = 0; k < candidates.size; k++) {
+            int i = candidates.values[k];
+            if (!isConflicted(i)) {
+                continue;
+            }
+            touched.add(i);
+            for (int t = 0; t < tries; t++) {
+                int j = ownedRow(worker, workers, rnd.nextInt(owned));
+                if (j != i && trySwap(i, j, rnd)) {
+                    touched.add(j);
+                    swaps++;
+                    break;
+                }
+            }
+        }
+
+        IntList remaining = new IntList();
+        for (int k = 0; k < touched.size; k++) {
+            if (isConflicted(touched.values[k])) {
+                remaining.add(touched.values[k]);
+            }
+        }
+        repairs.add(swaps);
+        return remaining;
+    }
+
+    private boolean isConflicted(int row) {
+        int col = queens[row];
+        return diagonals.get(row - col + n - 1) > 1 || antiDiagonals.get(row + col) > 1;
+    }
+
+    /**
+     * Swaps the columns of rows {@code i} and {@code j} if that lowers the
+     * number of conflicts involving them. Costs are read from the live
+     * counters without taking the queens off the board, and an accepted swap
+     * adds the new positions before removing the old ones, so other workers
+     * may briefly see an extra queen on a line but never a missing one.
+     */
+    private boolean trySwap(int i, int j, SplittableRandom rnd) {
+        int ci = queens[i];
+        int cj = queens[j];
+        // Each queen counts itself once on each of its two lines.
+        int before = cost(i, ci) + cost(j, cj) - 4 - sharedLines(i, ci, j, cj);
+        int after = cost(i, cj) + cost(j, ci) + sharedLines(i, cj, j, ci);
+        if (after < before || (after == before && rnd.nextInt(64) == 0)) {
+            add(i, cj);
+            add(j, ci);
+            remove(i, ci);
+            remove(j, cj);
+            queens[i] = cj;
+            queens[j] = ci;
+            return after < before;
+        }
+        return false;
+    }
+
+    private int cost(int row, int col) {
+        return diagonals.get(row - col + n - 1) + antiDiagonals.get(row + col);
+    }
+
+    private static int sharedLines(int r1, int c1, int r2, int c2) {
+        return (r1 - c1 == r2 - c2 ? 1 : 0) + (r1 + c1 == r2 + c2 ? 1 : 0);
+    }
+
+    private void add(int row, int col) {
+        diagonals.getAndIncrement(row - col + n - 1);
+        antiDiagonals.getAndIncrement(row + col);
+    }
+
+    private void remove(int row, int col) {
+        diagonals.getAndDecrement(row - col + n - 1);
+        antiDiagonals.getAndDecrement(row + col);
+    }
+
+    /**
+     * Returns the worker owning {@code row}: chunks of {@value #ROW_CHUNK}
+     * rows are dealt out round-robin.
+     */
+    private static int owner(int row, int workers) {
+        return (row / ROW_CHUNK) % workers;
+    }
+
+    private int ownedRows(int worker, int workers) {
+        int chunks = (n + ROW_CHUNK - 1) / ROW_CHUNK;
+        int ownedChunks = chunks > worker ? (chunks - worker + workers - 1) / workers : 0;
+        if (ownedChunks == 0) {
+            return 0;
+        }
+        int lastChunk = worker + (ownedChunks - 1) * workers;
+        int lastChunkRows = Math.min(ROW_CHUNK, n - lastChunk * ROW_CHUNK);
+        return (ownedChunks - 1) * ROW_CHUNK + lastChunkRows;
+    }
+
+    /**
+     * Maps the {@code k}-th row owned by {@code worker} to its board row.
+     */
+    private static int ownedRow(int worker, int workers, int k) {
+        return (worker + (k / ROW_CHUNK) * workers) * ROW_CHUNK + k % ROW_CHUNK;
+    }
+
+    private int[] findConflictedRows() {
+        IntList rows = new IntList();
+        for (int row = 0; row < n; row++) {
+            if (isConflicted(row)) {
+                rows.add(row);
+            }
+        }
+        return rows.toArray();
+    }
+
+    public int[] getQueens() {
+        return queens.clone();
+    }
+
+    public int queenAt(int row) {
+        return queens[row];
+    }
+
+    public void copyInto(int[] dst) {
+        if (dst == null || dst.length < n) {
+            throw new IllegalArgumentException("Destination must hold at least " + n + " elements");
+        }
+        System.arraycopy(queens, 0, dst, 0, n);
+    }
+
+    public int getSize() {
+        return n;
+    }
+
+    /**
+     * Returns the number of improving swaps made by the last {@link #solve()}.
+     */
+    public long getRepairs() {
+        return repairs.sum();
+    }
+
+    public int getRounds() {
+        return rounds;
+    }
+
+    /**
+     * Returns the number of times the last {@link #solve()} started over
+     * from a fresh permutation.
+     */
+    public int getRestarts() {
+        return restarts;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the repair throughput of the last {@link #solve()}, measured over
+     * the repair phase only (after the greedy initial placement).
+     */
+    public double getRepairsPerSecond() {
+        return repairNanos <= 0 ? 0.0 : repairs.sum() * 1_000_000_000.0 / repairNanos;
+    }
+
+    private static final class IntList {
+        private int[] values = new int[16];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.nqueenssolver.solver;
+
+/**
+ * Receives periodic progress snapshots from a long-running search.
+ * <p>
+ * Callbacks are made from a reporter thread at a fixed rate, never from the
+ * search loop itself, so listeners may do moderate work (formatting, posting to
+ * the Swing event queue) without slowing the workers down.
+ */
+@FunctionalInterface
+public interface ProgressListener {
+
+    void onProgress(SearchProgress progress);
+}
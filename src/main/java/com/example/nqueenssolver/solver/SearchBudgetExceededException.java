@@ -0,0 +1,21 @@
+package com.example.nqueenssolver.solver;
+
+/**
+ * Thrown by a bounded search that visited its whole node budget without
+ * finding a solution or proving that none exists.
+ */
+public class SearchBudgetExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long maxNodes;
+
+    public SearchBudgetExceededException(long maxNodes) {
+        super("Search gave up after " + maxNodes + " nodes");
+        this.maxNodes = maxNodes;
+    }
+
+    public long getMaxNodes() {
+        return maxNodes;
+    }
+}
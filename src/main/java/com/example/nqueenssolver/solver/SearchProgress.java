@@ -0,0 +1,108 @@
+package com.example.nqueenssolver.solver;
+
+import com.example.nqueenssolver.utils.PerformanceUtils;
+
+/**
+ * Immutable snapshot of an exhaustive search.
+ * <p>
+ * Work is measured in prefix subtrees. Each subtree carries an estimated node
+ * count, so the completed fraction is weighted by size rather than by the raw
+ * number of finished subtrees.
+ */
+public final class SearchProgress {
+
+    private final int completedSubtrees;
+    private final int totalSubtrees;
+    private final double completedWork;
+    private final double totalWork;
+    private final long nodes;
+    private final long solutions;
+    private final long elapsedNanos;
+    private final boolean finished;
+
+    public SearchProgress(int completedSubtrees, int totalSubtrees, double completedWork, double totalWork,
+                          long nodes, long solutions, long elapsedNanos, boolean finished) {
+        this.completedSubtrees = completedSubtrees;
+        this.totalSubtrees = totalSubtrees;
+        this.completedWork = completedWork;
+        this.totalWork = totalWork;
+        this.nodes = nodes;
+        this.solutions = solutions;
+        this.elapsedNanos = elapsedNanos;
+        this.finished = finished;
+    }
+
+    public int getCompletedSubtrees() {
+        return completedSubtrees;
+    }
+
+    public int getTotalSubtrees() {
+        return totalSubtrees;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getSolutions() {
+        return solutions;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Returns the completed fraction in {@code [0, 1]}, weighted by estimated subtree size.
+     */
+    public double getFractionComplete() {
+        if (finished) {
+            return 1.0;
+        }
+        if (totalWork <= 0) {
+            return 0.0;
+        }
+        return Math.min(1.0, completedWork / totalWork);
+    }
+
+    /**
+     * Returns the search throughput in nodes per second over the whole run so far.
+     */
+    public double getNodesPerSecond() {
+        if (elapsedNanos <= 0) {
+            return 0.0;
+        }
+        return nodes * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Returns the estimated remaining time in nanoseconds, or {@code -1} while
+     * there is not enough data to extrapolate.
+     */
+    public long getEtaNanos() {
+        if (finished) {
+            return 0;
+        }
+        double fraction = getFractionComplete();
+        if (fraction <= 0) {
+            return -1;
+        }
+        return (long) (elapsedNanos * (1.0 - fraction) / fraction);
+    }
+
+    @Override
+    public String toString() {
+        String summary = String.format("%.1f%% (%d/%d subtrees), %d solutions, %s nodes/s",
+            getFractionComplete() * 100, completedSubtrees, totalSubtrees, solutions,
+            PerformanceUtils.formatCount(getNodesPerSecond()));
+        if (finished) {
+            return summary;
+        }
+        long eta = getEtaNanos();
+        return summary + ", ETA " + (eta < 0 ? "unknown" : PerformanceUtils.formatNanos(eta));
+    }
+}
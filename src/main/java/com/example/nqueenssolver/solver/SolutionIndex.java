@@ -0,0 +1,156 @@
+package com.example.nqueenssolver.solver;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Ranked lookup of small-board solutions from tables written by
+ * {@link SolutionIndexBuilder}.
+ * <p>
+ * Each table is memory-mapped read-only when the index is opened. Opening
+ * therefore costs a few system calls regardless of table size, and the
+ * operating system faults in only the pages that lookups touch.
+ * {@link #solutionAt(int, long)} reads one packed entry, and
+ * {@link #rankOf(int[])} binary-searches the sorted table. Solutions use
+ * the same {@code int[] queens} layout as {@link NQueensSolver#getQueens()},
+ * and rank 0 is the lexicographically smallest solution, i.e.
+ * {@link BitboardSearch#findFirst(int)}. Instances are safe for concurrent
+ * readers.
+ */
+public class SolutionIndex {
+
+    /** Largest board whose solutions fit the four-bits-per-row encoding. */
+    public static final int MAX_INDEXED_SIZE = 15;
+
+    private final LongBuffer[] tables = new LongBuffer[MAX_INDEXED_SIZE + 1];
+
+    private SolutionIndex() {
+    }
+
+    /**
+     * Maps every table present in {@code directory}. Board sizes without a
+     * table are simply unavailable.
+     *
+     * @throws IOException if a table cannot be read or its header is inconsistent
+     */
+    public static SolutionIndex open(Path directory) throws IOException {
+        SolutionIndex index = new SolutionIndex();
+        for (int n = 1; n <= MAX_INDEXED_SIZE; n++) {
+            Path file = tableFile(directory, n);
+            if (Files.isRegularFile(file)) {
+                index.tables[n] = map(file, n);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns the table file for board size {@code n} inside {@code directory}.
+     */
+    public static Path tableFile(Path directory, int n) {
+        return directory.resolve(String.format("nqueens-%02d.idx", n));
+    }
+
+    public boolean contains(int n) {
+        return n >= 1 && n <= MAX_INDEXED_SIZE && tables[n] != null;
+    }
+
+    public long getSolutionCount(int n) {
+        return table(n).limit();
+    }
+
+    /**
+     * Returns the solution of rank {@code k} in lexicographic order.
+     *
+     * @throws IllegalArgumentException if no table for {@code n} is loaded or
+     *         {@code k} is outside {@code 0..getSolutionCount(n)-1}
+     */
+    public int[] solutionAt(int n, long k) {
+        LongBuffer table = table(n);
+        if (k < 0 || k >= table.limit()) {
+            throw new IllegalArgumentException("Rank " + k + " out of range for " + n + "-Queens ("
+                + table.limit() + " solutions)");
+        }
+        return decode(n, table.get((int) k));
+    }
+
+    /**
+     * Returns the lexicographic rank of a solution.
+     *
+     * @param queens solution in {@link NQueensSolver#getQueens()} layout
+     * @return the rank, or -1 if {@code queens} is not a solution
+     * @throws IllegalArgumentException if no table for {@code queens.length} is loaded
+     */
+    public long rankOf(int[] queens) {
+        int n = queens.length;
+        LongBuffer table = table(n);
+        long packed = 0;
+        for (int row = 0; row < n; row++) {
+            int col = queens[row];
+            if (col < 0 || col >= n) {
+                return -1;
+            }
+            packed |= (long) col << SolutionIndexBuilder.shift(n, row);
+        }
+        int low = 0;
+        int high = table.limit() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long value = table.get(mid);
+            if (value < packed) {
+                low = mid + 1;
+            } else if (value > packed) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private LongBuffer table(int n) {
+        if (!contains(n)) {
+            throw new IllegalArgumentException("No solution table loaded for n=" + n);
+        }
+        return tables[n];
+    }
+
+    private static int[] decode(int n, long packed) {
+        int[] queens = new int[n];
+        for (int row = 0; row < n; row++) {
+            queens[row] = (int) (packed >>> SolutionIndexBuilder.shift(n, row)) & 0xF;
+        }
+        return queens;
+    }
+
+    private static LongBuffer map(Path file, int n) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < SolutionIndexBuilder.HEADER_BYTES) {
+                throw new IOException("Truncated solution table: " + file);
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            mapped.order(ByteOrder.BIG_ENDIAN);
+            if (mapped.getInt(0) != SolutionIndexBuilder.MAGIC
+                    || mapped.getInt(4) != SolutionIndexBuilder.VERSION) {
+                throw new IOException("Not a solution table: " + file);
+            }
+            if (mapped.getInt(8) != n) {
+                throw new IOException(file + " holds solutions for n=" + mapped.getInt(8) + ", expected " + n);
+            }
+            long count = mapped.getLong(16);
+            if (count < 0 || count != (size - SolutionIndexBuilder.HEADER_BYTES) / Long.BYTES
+                    || (size - SolutionIndexBuilder.HEADER_BYTES) % Long.BYTES != 0) {
+                throw new IOException("Solution count does not match the length of " + file);
+            }
+            // The mapping stays valid after the channel is closed.
+            return mapped.position(SolutionIndexBuilder.HEADER_BYTES).slice().order(ByteOrder.BIG_ENDIAN).asLongBuffer();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.nqueenssolver.solver;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Enumerates every solution of a small board once and writes them, in
+ * lexicographic order, to the table file read by {@link SolutionIndex}.
+ * <p>
+ * A table is a 24-byte header (magic, format version, board size, padding,
+ * solution count) followed by one big-endian {@code long} per solution.
+ * Each solution is packed four bits per row with row 0 in the most
+ * significant nibble, so comparing the packed values compares the
+ * solutions lexicographically. Enumeration is split by the first-row column
+ * and the per-column lists are concatenated in column order.
+ */
+public final class SolutionIndexBuilder {
+
+    static final int MAGIC = 0x4E515849; // "NQIX"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 24;
+
+    private SolutionIndexBuilder() {
+    }
+
+    /**
+     * Writes the tables for boards {@code 1..maxN} into {@code directory},
+     * using one worker per available processor.
+     */
+    public static void buildAll(Path directory, int maxN) throws IOException, InterruptedException {
+        if (maxN < 1 || maxN > SolutionIndex.MAX_INDEXED_SIZE) {
+            throw new IllegalArgumentException("Indexed board size must be between 1 and "
+                + SolutionIndex.MAX_INDEXED_SIZE + ": " + maxN);
+        }
+        Files.createDirectories(directory);
+        int threads = Runtime.getRuntime().availableProcessors();
+        for (int n = 1; n <= maxN; n++) {
+            build(n, SolutionIndex.tableFile(directory, n), threads);
+        }
+    }
+
+    /**
+     * Enumerates all solutions of an N-Queens board and writes them to {@code file}.
+     * The table is written to a temporary sibling first and moved into place,
+     * so readers never observe a partial file.
+     *
+     * @return the number of solutions written
+     */
+    public static long build(int n, Path file, int threadCount) throws IOException, InterruptedException {
+        long[] solutions = enumerate(n, threadCount);
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream os = Files.newOutputStream(tmp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os, 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(n);
+            out.writeInt(0);
+            out.writeLong(solutions.length);
+            for (long packed : solutions) {
+                out.writeLong(packed);
+            }
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return solutions.length;
+    }
+
+    /**
+     * Returns every solution of an N-Queens board, packed as described above
+     * and sorted in ascending (lexicographic) order.
+     */
+    static long[] enumerate(int n, int threadCount) throws InterruptedException {
+        if (n < 1 || n > SolutionIndex.MAX_INDEXED_SIZE) {
+            throw new IllegalArgumentException("Indexed board size must be between 1 and "
+                + SolutionIndex.MAX_INDEXED_SIZE + ": " + n);
+        }
+        if (threadCount <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive");
+        }
+        BitboardEngine engine = new BitboardEngine(BoardVariant.standard(n));
+        List<Callable<long[]>> tasks = new ArrayList<>(n);
+        for (int col = 0; col < n; col++) {
+            int first = col;
+            int bit = 1 << col;
+            tasks.add(() -> {
+                LongList out = new LongList();
+                int[] queens = new int[n];
+                queens[0] = first;
+                engine.forEachSolution(1, bit, engine.nextLd(0, bit), engine.nextRd(0, bit), bit, 0, queens,
+                    solution -> out.add(pack(solution)));
+                return out.toArray();
+            });
+        }
+
+        ExecutorService executor = WorkerPools.newFixedPool("Index", Math.min(threadCount, n));
+        try {
+            List<long[]> parts = new ArrayList<>(n);
+            for (Future<long[]> future : executor.invokeAll(tasks)) {
+                parts.add(future.get());
+            }
+            int total = 0;
+            for (long[] part : parts) {
+                total += part.length;
+            }
+            long[] all = new long[total];
+            int offset = 0;
+            for (long[] part : parts) {
+                System.arraycopy(part, 0, all, offset, part.length);
+                offset += part.length;
+            }
+            return all;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Index worker failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static long pack(int[] queens) {
+        int n = queens.length;
+        long packed = 0;
+        for (int row = 0; row < n; row++) {
+            packed |= (long) queens[row] << shift(n, row);
+        }
+        return packed;
+    }
+
+    static int shift(int n, int row) {
+        return (n - 1 - row) * 4;
+    }
+
+    private static final class LongList {
+        private long[] values = new long[64];
+        private int size;
+
+        private void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
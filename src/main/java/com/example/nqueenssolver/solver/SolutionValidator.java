@@ -0,0 +1,316 @@
+package com.example.nqueenssolver.solver;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Linear-time validator for N-Queens placements in the {@code int[] queens}
+ * format of {@link NQueensSolver#getQueens()}.
+ * <p>
+ * Rows are fed one at a time through {@link #accept(int)}; occupied columns
+ * and both diagonal families are tracked in bitsets (about 5N/8 bytes), so a
+ * placement is checked in O(N) time without holding it in memory. The static
+ * helpers cover arrays, buffers, binary streams and memory-mapped files, and
+ * all of them report the first conflict found in row order.
+ */
+public class SolutionValidator {
+
+    /**
+     * Largest supported board. Diagonal indices run up to 2N-2, which must
+     * fit in an {@code int}.
+     */
+    public static final int MAX_BOARD_SIZE = 1 << 30;
+
+    private static final long MAX_MAPPING_BYTES = 1L << 30;
+
+    private final int n;
+    private final long[] columns;
+    private final long[] diagonals;
+    private final long[] antiDiagonals;
+    private int row;
+    private Conflict conflict;
+
+    public SolutionValidator(int n) {
+        checkBoardSize(n);
+        this.n = n;
+        this.columns = new long[words(n)];
+        this.diagonals = new long[words(2 * n - 1)];
+        this.antiDiagonals = new long[words(2 * n - 1)];
+    }
+
+    /**
+     * Checks the queen of the next row.
+     *
+     * @param col column of the queen, or -1 for an empty row
+     * @return the first conflict seen so far, or {@code null} if there is none
+     */
+    public Conflict accept(int col) {
+        if (conflict != null) {
+            return conflict;
+        }
+        int r = row++;
+        if (r >= n) {
+            conflict = new Conflict(Conflict.Kind.EXTRA_ROW, r, -1, col);
+        } else if (col == -1) {
+            conflict = new Conflict(Conflict.Kind.EMPTY_ROW, r, -1, col);
+        } else if (col < 0 || col >= n) {
+            conflict = new Conflict(Conflict.Kind.OUT_OF_RANGE, r, -1, col);
+        } else if (testAndSet(columns, col)) {
+            conflict = new Conflict(Conflict.Kind.COLUMN, r, -1, col);
+        } else if (testAndSet(diagonals, r - col + n - 1)) {
+            conflict = new Conflict(Conflict.Kind.DIAGONAL, r, -1, col);
+        } else if (testAndSet(antiDiagonals, r + col)) {
+            conflict = new Conflict(Conflict.Kind.ANTI_DIAGONAL, r, -1, col);
+        }
+        return conflict;
+    }
+
+    /**
+     * Completes validation once all rows have been fed.
+     *
+     * @return the first conflict, or {@code null} if the placement is a valid solution
+     */
+    public Conflict finish() {
+        if (conflict == null && row < n) {
+            conflict = new Conflict(Conflict.Kind.MISSING_ROWS, row, -1, -1);
+        }
+        return conflict;
+    }
+
+    public int getSize() {
+        return n;
+    }
+
+    public static boolean isValid(int[] queens) {
+        return findConflict(queens) == null;
+    }
+
+    /**
+     * Returns the first conflict of a placement, or {@code null} if it is a valid solution.
+     */
+    public static Conflict findConflict(int[] queens) {
+        return findConflict(IntBuffer.wrap(queens));
+    }
+
+    /**
+     * Validates the remaining ints of a buffer, one per row. The buffer
+     * position is not modified. Because the buffer can be re-read, the
+     * reported conflict includes the earlier row it collides with.
+     */
+    public static Conflict findConflict(IntBuffer queens) {
+        int n = queens.remaining();
+        if (n == 0) {
+            throw new IllegalArgumentException("Placement is empty");
+        }
+        int base = queens.position();
+        SolutionValidator validator = new SolutionValidator(n);
+        for (int r = 0; r < n; r++) {
+            if (validator.accept(queens.get(base + r)) != null) {
+                break;
+            }
+        }
+        Conflict conflict = validator.finish();
+        return conflict == null ? null : conflict.withOtherRow(findOtherRow(queens, base, n, conflict));
+    }
+
+    /**
+     * Validates a stream of big-endian ints, one per row, without buffering
+     * the placement. The reported conflict does not name the earlier row.
+     */
+    public static Conflict findConflict(int n, InputStream in) throws IOException {
+        SolutionValidator validator = new SolutionValidator(n);
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in, 1 << 16));
+        while (true) {
+            int col;
+            try {
+                col = data.readInt();
+            } catch (EOFException e) {
+                break;
+            }
+            if (validator.accept(col) != null) {
+                break;
+            }
+        }
+        return validator.finish();
+    }
+
+    /**
+     * Validates a binary file of 32-bit ints, one per row, by memory-mapping
+     * it. Pages are faulted in as the validator walks the file, so files much
+     * larger than the heap are fine.
+     *
+     * @param order byte order of the ints in the file
+     */
+    public static Conflict findConflict(Path file, ByteOrder order) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0 || size % Integer.BYTES != 0) {
+                throw new IllegalArgumentException("File length must be a positive multiple of 4 bytes: " + size);
+            }
+            long rows = size / Integer.BYTES;
+            if (rows > MAX_BOARD_SIZE) {
+                throw new IllegalArgumentException("Too many rows: " + rows + " (at most " + MAX_BOARD_SIZE + ")");
+            }
+            int n = (int) rows;
+            if (size <= MAX_MAPPING_BYTES) {
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                return findConflict(mapped.order(order).asIntBuffer());
+            }
+
+            SolutionValidator validator = new SolutionValidator(n);
+            for (long offset = 0; offset < size && validator.conflict == null; offset += MAX_MAPPING_BYTES) {
+                long length = Math.min(MAX_MAPPING_BYTES, size - offset);
+                IntBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, offset, length).order(order).asIntBuffer();
+                while (chunk.hasRemaining()) {
+                    if (validator.accept(chunk.get()) != null) {
+                        break;
+                    }
+                }
+            }
+            return validator.finish();
+        }
+    }
+
+    static void checkBoardSize(int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("Board size must be positive");
+        }
+        if (n > MAX_BOARD_SIZE) {
+            throw new IllegalArgumentException("Board size must not exceed " + MAX_BOARD_SIZE + ": " + n);
+        }
+    }
+
+    private static int findOtherRow(IntBuffer queens, int base, int n, Conflict conflict) {
+        int r = conflict.getRow();
+        int col = conflict.getColumn();
+        for (int i = 0; i < r && i < n; i++) {
+            int other = queens.get(base + i);
+            switch (conflict.getKind()) {
+                case COLUMN:
+                    if (other == col) {
+                        return i;
+                    }
+                    break;
+                case DIAGONAL:
+                    if (i - other == r - col) {
+                        return i;
+                    }
+                    break;
+                case ANTI_DIAGONAL:
+                    if (i + other == r + col) {
+                        return i;
+                    }
+                    break;
+                default:
+                    return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static int words(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    private static boolean testAndSet(long[] bits, int index) {
+        long mask = 1L << index;
+        int word = index >>> 6;
+        boolean set = (bits[word] & mask) != 0;
+        bits[word] |= mask;
+        return set;
+    }
+
+    /**
+     * First problem found in a placement.
+     */
+    public static final class Conflict {
+
+        public enum Kind {
+            /** Two queens share a column. */
+            COLUMN,
+            /** Two queens share a diagonal where row - column is constant. */
+            DIAGONAL,
+            /** Two queens share a diagonal where row + column is constant. */
+            ANTI_DIAGONAL,
+            /** A row holds no queen (-1). */
+            EMPTY_ROW,
+            /** A column lies outside the board. */
+            OUT_OF_RANGE,
+            /** Fewer rows than the board size were supplied. */
+            MISSING_ROWS,
+            /** More rows than the board size were supplied. */
+            EXTRA_ROW
+        }
+
+        private final Kind kind;
+        private final int row;
+        private final int otherRow;
+        private final int column;
+
+        public Conflict(Kind kind, int row, int otherRow, int column) {
+            this.kind = kind;
+            this.row = row;
+            this.otherRow = otherRow;
+            this.column = column;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        /**
+         * Returns the row at which the problem was detected.
+         */
+        public int getRow() {
+            return row;
+        }
+
+        /**
+         * Returns the earlier row the queen collides with, or -1 if unknown or
+         * not applicable.
+         */
+        public int getOtherRow() {
+            return otherRow;
+        }
+
+        public int getColumn() {
+            return column;
+        }
+
+        private Conflict withOtherRow(int otherRow) {
+            return otherRow == this.otherRow ? this : new Conflict(kind, row, otherRow, column);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Conflict)) {
+                return false;
+            }
+            Conflict other = (Conflict) o;
+            return kind == other.kind && row == other.row && otherRow == other.otherRow && column == other.column;
+        }
+
+        @Override
+        public int hashCode() {
+            return ((kind.hashCode() * 31 + row) * 31 + otherRow) * 31 + column;
+        }
+
+        @Override
+        public String toString() {
+            String where = "row " + row + (column >= 0 || kind == Kind.OUT_OF_RANGE ? ", column " + column : "");
+            return kind + " conflict at " + where + (otherRow >= 0 ? " (with row " + otherRow + ")" : "");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.nqueenssolver.solver;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event recorded when an {@link NQueensCounter} is cancelled, either
+ * explicitly or because the counting thread was interrupted. The stack trace
+ * shows who cancelled.
+ */
+@Name(SolverCancelledEvent.NAME)
+@Label("Solver Cancelled")
+@Category({"N-Queens", "Solver"})
+public final class SolverCancelledEvent extends Event {
+
+    public static final String NAME = "com.example.nqueenssolver.SolverCancelled";
+
+    @Label("Board Size")
+    int boardSize;
+
+    @Label("Completed Subtrees")
+    int completedSubtrees;
+
+    @Label("Total Subtrees")
+    int totalSubtrees;
+
+    @Label("Nodes")
+    long nodes;
+}
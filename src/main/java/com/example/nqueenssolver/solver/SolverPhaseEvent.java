@@ -0,0 +1,50 @@
+package com.example.nqueenssolver.solver;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning one phase of an {@link NQueensCounter} run: splitting
+ * the board into prefix subtrees ({@value #PARTITION}) or counting them
+ * ({@value #COUNT}).
+ */
+@Name(SolverPhaseEvent.NAME)
+@Label("Solver Phase")
+@Category({"N-Queens", "Solver"})
+@Description("A phase of an exhaustive N-Queens count")
+@StackTrace(false)
+public final class SolverPhaseEvent extends Event {
+
+    public static final String NAME = "com.example.nqueenssolver.SolverPhase";
+    public static final String PARTITION = "partition";
+    public static final String COUNT = "count";
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Board Size")
+    int boardSize;
+
+    @Label("Board Variant")
+    String variant;
+
+    @Label("Threads")
+    int threads;
+
+    @Label("Subtrees")
+    int subtrees;
+
+    @Label("Nodes")
+    @Description("Search nodes visited during the phase")
+    long nodes;
+
+    @Label("Solutions")
+    long solutions;
+
+    @Label("Cancelled")
+    boolean cancelled;
+}
@@ -0,0 +1,42 @@
+package com.example.nqueenssolver.solver;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning the search of one prefix subtree by a counting worker.
+ * The event's start and end time are the task's start and end.
+ */
+@Name(SolverTaskEvent.NAME)
+@Label("Solver Task")
+@Category({"N-Queens", "Solver"})
+@Description("Exhaustive search of one prefix subtree")
+@StackTrace(false)
+public final class SolverTaskEvent extends Event {
+
+    public static final String NAME = "com.example.nqueenssolver.SolverTask";
+
+    @Label("Board Size")
+    int boardSize;
+
+    @Label("Prefix Id")
+    @Description("Index of the prefix in lexicographic order")
+    int prefixId;
+
+    @Label("Prefix")
+    @Description("Columns of the queens in the prefix rows")
+    String prefix;
+
+    @Label("Estimated Nodes")
+    double estimatedNodes;
+
+    @Label("Nodes")
+    long nodes;
+
+    @Label("Solutions")
+    long solutions;
+}
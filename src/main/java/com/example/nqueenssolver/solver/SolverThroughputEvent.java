@@ -0,0 +1,40 @@
+package com.example.nqueenssolver.solver;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event sampling counting throughput, emitted by the progress reporter
+ * at the counter's report interval. Node counts only advance when a subtree
+ * completes, so short intervals on boards with few subtrees look bursty.
+ */
+@Name(SolverThroughputEvent.NAME)
+@Label("Solver Throughput")
+@Category({"N-Queens", "Solver"})
+@Description("Search throughput since the previous sample")
+@StackTrace(false)
+public final class SolverThroughputEvent extends Event {
+
+    public static final String NAME = "com.example.nqueenssolver.SolverThroughput";
+
+    @Label("Board Size")
+    int boardSize;
+
+    @Label("Completed Subtrees")
+    int completedSubtrees;
+
+    @Label("Total Subtrees")
+    int totalSubtrees;
+
+    @Label("Nodes")
+    @Description("Search nodes visited since the run started")
+    long nodes;
+
+    @Label("Nodes per Second")
+    @Description("Rate over the interval since the previous sample")
+    double nodesPerSecond;
+}
@@ -0,0 +1,26 @@
+package com.example.nqueenssolver.solver;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread pools for the parallel solvers. Workers are daemon threads, so an
+ * abandoned computation never keeps the JVM alive, and are named
+ * {@code NQueens-<role>-<i>} so they are easy to spot in thread dumps and
+ * profiles.
+ */
+final class WorkerPools {
+
+    private WorkerPools() {
+    }
+
+    static ExecutorService newFixedPool(String role, int threads) {
+        AtomicInteger index = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "NQueens-" + role + "-" + index.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+}
@@ -35,18 +35,49 @@ public class PerformanceUtils {
         }
         
         public String getFormattedTime() {
-            long nanos = getElapsedNanos();
-            long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
-            long seconds = TimeUnit.NANOSECONDS.toSeconds(nanos);
-            
-            if (seconds > 0) {
-                return String.format("%.2f seconds", seconds + (millis % 1000) / 1000.0);
-            } else if (millis > 0) {
-                return String.format("%d ms", millis);
-            } else {
-                return String.format("%.2f μs", nanos / 1000.0);
-            }
+            return formatNanos(getElapsedNanos());
+        }
+    }
+    
+    public static String formatNanos(long nanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        long seconds = TimeUnit.NANOSECONDS.toSeconds(nanos);
+        
+        if (seconds >= 3600) {
+            return String.format("%dh %02dm %02ds", seconds / 3600, (seconds / 60) % 60, seconds % 60);
+        } else if (seconds >= 60) {
+            return String.format("%dm %02ds", seconds / 60, seconds % 60);
+        } else if (seconds > 0) {
+            return String.format("%.2f seconds", seconds + (millis % 1000) / 1000.0);
+        } else if (millis > 0) {
+            return String.format("%d ms", millis);
+        } else {
+            return String.format("%.2f μs", nanos / 1000.0);
+        }
+    }
+    
+    public static String formatCount(double value) {
+        if (value >= 1e9) {
+            return String.format("%.2fG", value / 1e9);
+        } else if (value >= 1e6) {
+            return String.format("%.2fM", value / 1e6);
+        } else if (value >= 1e3) {
+            return String.format("%.2fk", value / 1e3);
+        } else {
+            return String.format("%.0f", value);
+        }
+    }
+    
+    /**
+     * Returns the value at the given percentile (0-100) of an ascending-sorted
+     * array using the nearest-rank method.
+     */
+    public static long percentile(long[] sortedValues, double percentile) {
+        if (sortedValues.length == 0) {
+            throw new IllegalArgumentException("No values");
         }
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedValues.length);
+        return sortedValues[Math.max(0, Math.min(sortedValues.length - 1, rank - 1))];
     }
     
     public static int calculateOptimalThreadCount(int problemSize) {
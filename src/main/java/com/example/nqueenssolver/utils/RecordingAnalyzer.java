@@ -0,0 +1,171 @@
+package com.example.nqueenssolver.utils;
+
+import com.example.nqueenssolver.solver.SolverCancelledEvent;
+import com.example.nqueenssolver.solver.SolverPhaseEvent;
+import com.example.nqueenssolver.solver.SolverTaskEvent;
+import com.example.nqueenssolver.solver.SolverThroughputEvent;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Summarizes the solver events in a JFR recording, for example one made with
+ * {@code java -XX:StartFlightRecording=filename=count.jfr ... --count 16}.
+ * <p>
+ * For every solver phase the report shows its duration, node throughput and
+ * the garbage collection pauses and JVM CPU load recorded while it ran. It
+ * also shows task duration percentiles, the spread of the throughput samples
+ * and any cancellations.
+ */
+public class RecordingAnalyzer {
+
+    private static final String GC_EVENT = "jdk.GarbageCollection";
+    private static final String CPU_EVENT = "jdk.CPULoad";
+
+    private final List<RecordedEvent> phases = new ArrayList<>();
+    private final List<RecordedEvent> tasks = new ArrayList<>();
+    private final List<RecordedEvent> samples = new ArrayList<>();
+    private final List<RecordedEvent> cancellations = new ArrayList<>();
+    private final List<RecordedEvent> collections = new ArrayList<>();
+    private final List<RecordedEvent> cpuLoads = new ArrayList<>();
+
+    /**
+     * Reads a recording and returns the report as text.
+     */
+    public static String analyze(Path recording) throws IOException {
+        RecordingAnalyzer analyzer = new RecordingAnalyzer();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                analyzer.accept(file.readEvent());
+            }
+        }
+        return analyzer.report();
+    }
+
+    private void accept(RecordedEvent event) {
+        switch (event.getEventType().getName()) {
+            case SolverPhaseEvent.NAME -> phases.add(event);
+            case SolverTaskEvent.NAME -> tasks.add(event);
+            case SolverThroughputEvent.NAME -> samples.add(event);
+            case SolverCancelledEvent.NAME -> cancellations.add(event);
+            case GC_EVENT -> collections.add(event);
+            case CPU_EVENT -> cpuLoads.add(event);
+            default -> { }
+        }
+    }
+
+    private String report() {
+        StringBuilder sb = new StringBuilder();
+        if (phases.isEmpty() && tasks.isEmpty()) {
+            return "No N-Queens solver events in recording\n";
+        }
+
+        phases.sort((a, b) -> a.getStartTime().compareTo(b.getStartTime()));
+        sb.append(String.format("%-10s %4s %14s %10s %12s %14s %8s%n",
+            "Phase", "N", "Duration", "Nodes", "Nodes/s", "GC pauses", "JVM CPU"));
+        for (RecordedEvent phase : phases) {
+            long nanos = phase.getDuration().toNanos();
+            long phaseNodes = phase.getLong("nodes");
+            String phaseName = phase.getString("phase") + (phase.getBoolean("cancelled") ? "*" : "");
+            sb.append(String.format("%-10s %4d %14s %10s %12s %14s %8s%n",
+                phaseName,
+                phase.getInt("boardSize"),
+                PerformanceUtils.formatNanos(nanos),
+                phaseNodes > 0 ? PerformanceUtils.formatCount(phaseNodes) : "-",
+                phaseNodes > 0 && nanos > 0 ? PerformanceUtils.formatCount(phaseNodes * 1_000_000_000.0 / nanos) : "-",
+                gcPauses(phase.getStartTime(), phase.getEndTime()),
+                cpuLoad(phase.getStartTime(), phase.getEndTime())));
+        }
+        if (phases.stream().anyMatch(p -> p.getBoolean("cancelled"))) {
+            sb.append("* cancelled before completion\n");
+        }
+
+        if (!tasks.isEmpty()) {
+            long[] durations = new long[tasks.size()];
+            long taskNodes = 0;
+            for (int i = 0; i < tasks.size(); i++) {
+                durations[i] = tasks.get(i).getDuration().toNanos();
+                taskNodes += tasks.get(i).getLong("nodes");
+            }
+            Arrays.sort(durations);
+            RecordedEvent slowest = tasks.stream()
+                .max((a, b) -> a.getDuration().compareTo(b.getDuration()))
+                .get();
+            sb.append(String.format("Tasks: %d, %s nodes, duration p50 %s, p90 %s, p99 %s, max %s (prefix #%d %s)%n",
+                tasks.size(),
+                PerformanceUtils.formatCount(taskNodes),
+                PerformanceUtils.formatNanos(PerformanceUtils.percentile(durations, 50)),
+                PerformanceUtils.formatNanos(PerformanceUtils.percentile(durations, 90)),
+                PerformanceUtils.formatNanos(PerformanceUtils.percentile(durations, 99)),
+                PerformanceUtils.formatNanos(durations[durations.length - 1]),
+                slowest.getInt("prefixId"),
+                slowest.getString("prefix")));
+        }
+
+        if (!samples.isEmpty()) {
+            double min = Double.MAX_VALUE;
+            double max = 0;
+            double sum = 0;
+            for (RecordedEvent sample : samples) {
+                double rate = sample.getDouble("nodesPerSecond");
+                min = Math.min(min, rate);
+                max = Math.max(max, rate);
+                sum += rate;
+            }
+            sb.append(String.format("Throughput samples: %d, nodes/s min %s, avg %s, max %s%n",
+                samples.size(),
+                PerformanceUtils.formatCount(min),
+                PerformanceUtils.formatCount(sum / samples.size()),
+                PerformanceUtils.formatCount(max)));
+        }
+
+        for (RecordedEvent cancellation : cancellations) {
+            sb.append(String.format("Cancelled: N=%d after %d of %d subtrees, %s nodes%n",
+                cancellation.getInt("boardSize"),
+                cancellation.getInt("completedSubtrees"),
+                cancellation.getInt("totalSubtrees"),
+                PerformanceUtils.formatCount(cancellation.getLong("nodes"))));
+        }
+        return sb.toString();
+    }
+
+    private String gcPauses(Instant from, Instant to) {
+        int count = 0;
+        Duration paused = Duration.ZERO;
+        for (RecordedEvent gc : collections) {
+            if (within(gc.getStartTime(), from, to)) {
+                count++;
+                paused = paused.plus(gc.getDuration("sumOfPauses"));
+            }
+        }
+        return count == 0 ? "none" : count + " / " + PerformanceUtils.formatNanos(paused.toNanos());
+    }
+
+    private String cpuLoad(Instant from, Instant to) {
+        double sum = 0;
+        int count = 0;
+        for (RecordedEvent load : cpuLoads) {
+            if (within(load.getStartTime(), from, to)) {
+                sum += load.getFloat("jvmUser") + load.getFloat("jvmSystem");
+                count++;
+            }
+        }
+        return count == 0 ? "-" : String.format("%.0f%%", sum / count * 100);
+    }
+
+    /**
+     * Phases are attributed the events that start in {@code [from, to)}, so an
+     * event at the boundary of two back-to-back phases is counted once.
+     */
+    private static boolean within(Instant time, Instant from, Instant to) {
+        return !time.isBefore(from) && time.isBefore(to);
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.nqueenssolver.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class SolveServiceTest {
+
+    private SolveService service;
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        service = new SolveService(0, 4, 2, 2, 12);
+        service.start();
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+    }
+
+    @Test
+    void testSolve() throws Exception {
+        HttpResponse<String> response = get("/solve?n=8");
+        assertEquals(200, response.statusCode());
+        assertEquals("{\"n\":8,\"solution\":[0,4,7,5,2,6,1,3]}", response.body());
+    }
+
+    @Test
+    void testCount() throws Exception {
+        HttpResponse<String> response = get("/count?n=8");
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("\"count\":92"), response.body());
+    }
+
+    @Test
+    void testComplete() throws Exception {
+        HttpResponse<String> response = get("/complete?n=8&prefix=1,3");
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("\"solution\":[1,3,"), response.body());
+
+        response = get("/complete?n=8&prefix=0,1");
+        assertTrue(response.body().contains("\"solution\":null"), response.body());
+    }
+
+    @Test
+    void testInvalidParameters() throws Exception {
+        assertEquals(400, get("/solve").statusCode());
+        assertEquals(400, get("/solve?n=abc").statusCode());
+        assertEquals(400, get("/count?n=13").statusCode());
+        assertEquals(400, get("/complete?n=8&prefix=9").statusCode());
+    }
+
+    @Test
+    void testStats() throws Exception {
+        get("/solve?n=6");
+        HttpResponse<String> response = get("/stats");
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("\"computations\":1"), response.body());
+    }
+
+    @Test
+    void testIdenticalRequestsShareOneComputation() throws Exception {
+        CountDownLatch gate = new CountDownLatch(1);
+        service.computeGate = gate;
+        int clients = 6;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<HttpResponse<String>>> responses = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                responses.add(executor.submit(() -> get("/count?n=10")));
+            }
+            awaitStats("\"coalesced\":" + (clients - 1));
+            gate.countDown();
+
+            for (Future<HttpResponse<String>> response : responses) {
+                assertEquals(200, response.get().statusCode());
+                assertTrue(response.get().body().contains("\"count\":724"), response.get().body());
+            }
+        }
+        String stats = get("/stats").body();
+        assertTrue(stats.contains("\"computations\":1,"), stats);
+        assertTrue(stats.contains("\"rejected\":0"), stats);
+    }
+
+    @Test
+    void testRequestsBeyondCapacityAreRejected() throws Exception {
+        CountDownLatch gate = new CountDownLatch(1);
+        service.computeGate = gate;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // Fill all four admission slots with distinct computations.
+            List<Future<HttpResponse<String>>> admitted = new ArrayList<>();
+            for (int n = 5; n <= 8; n++) {
+                String path = "/solve?n=" + n;
+                admitted.add(executor.submit(() -> get(path)));
+            }
+            awaitStats("\"inFlight\":4");
+
+            HttpResponse<String> rejected = get("/solve?n=9");
+            assertEquals(503, rejected.statusCode());
+            assertEquals("1", rejected.headers().firstValue("Retry-After").orElse(null));
+
+            // A query identical to an admitted one joins it instead of being rejected.
+            Future<HttpResponse<String>> joined = executor.submit(() -> get("/solve?n=8"));
+            awaitStats("\"coalesced\":1");
+            gate.countDown();
+
+            for (Future<HttpResponse<String>> response : admitted) {
+                assertEquals(200, response.get().statusCode());
+            }
+            assertEquals("{\"n\":8,\"solution\":[0,4,7,5,2,6,1,3]}", joined.get().body());
+        }
+        assertEquals(200, get("/solve?n=9").statusCode());
+        assertTrue(get("/stats").body().contains("\"rejected\":1"));
+    }
+
+    @Test
+    void testLongSearchesDoNotBlockShortOnes() throws Exception {
+        service.setMaxSearchNodes(20_000_000);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // Each prefix needs billions of nodes to decide; together they occupy both compute threads.
+            Future<HttpResponse<String>> first = executor.submit(() -> get("/complete?n=32&prefix=5,7"));
+            Future<HttpResponse<String>> second = executor.submit(() -> get("/complete?n=32&prefix=7,5"));
+            awaitStats("\"computations\":2");
+
+            long start = System.nanoTime();
+            HttpResponse<String> response = get("/solve?n=8");
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            assertEquals(200, response.statusCode());
+            assertTrue(elapsedMillis < 10_000, "Short solve waited " + elapsedMillis + " ms");
+
+            assertEquals(504, first.get().statusCode());
+            assertEquals(504, second.get().statusCode());
+            assertTrue(first.get().body().contains("20000000 nodes"), first.get().body());
+        }
+    }
+
+    private void awaitStats(String expected) throws Exception {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        String stats;
+        while (!(stats = get("/stats").body()).contains(expected)) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for " + expected + " in " + stats);
+            Thread.sleep(10);
+        }
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        URI uri = URI.create("http://localhost:" + service.getPort() + path);
+        return client.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
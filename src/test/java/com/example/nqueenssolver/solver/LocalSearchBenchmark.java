@@ -0,0 +1,65 @@
+package com.example.nqueenssolver.solver;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wall time of {@link ParallelLocalSearch#solve()} by worker count. On a
+ * machine with enough cores the time per solve should drop as threads are
+ * added while the {@code repairs} counter, divided by {@code solves}, stays
+ * about the same:
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="LocalSearchBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class LocalSearchBenchmark {
+
+    @Param({"1000000"})
+    public int n;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    private long seed;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Work {
+        public long solves;
+        public long repairs;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            solves = 0;
+            repairs = 0;
+        }
+    }
+
+    @Benchmark
+    public boolean solve(Work work) throws InterruptedException {
+        ParallelLocalSearch search = new ParallelLocalSearch(n, threads, seed++);
+        boolean solved = search.solve();
+        work.solves++;
+        work.repairs += search.getRepairs();
+        return solved;
+    }
+}
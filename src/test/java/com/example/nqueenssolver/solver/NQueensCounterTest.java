@@ -0,0 +1,92 @@
+package com.example.nqueenssolver.solver;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+public class NQueensCounterTest {
+
+    private static final long[] KNOWN_COUNTS = {1, 0, 0, 2, 10, 4, 40, 92, 352, 724, 2680, 14200};
+
+    @Test
+    void testKnownCounts() throws InterruptedException {
+        for (int n = 1; n <= KNOWN_COUNTS.length; n++) {
+            NQueensCounter counter = new NQueensCounter(n, 2);
+            assertEquals(KNOWN_COUNTS[n - 1], counter.count(), "Wrong count for N=" + n);
+        }
+    }
+
+    @Test
+    void testToroidalCounts() throws InterruptedException {
+        assertEquals(10, new NQueensCounter(BoardVariant.toroidal(5), 2).count());
+        assertEquals(0, new NQueensCounter(BoardVariant.toroidal(6), 2).count());
+        assertEquals(28, new NQueensCounter(BoardVariant.toroidal(7), 2).count());
+        assertEquals(88, new NQueensCounter(BoardVariant.toroidal(11), 2).count());
+    }
+
+    @Test
+    void testSuperqueenCounts() throws InterruptedException {
+        assertEquals(0, new NQueensCounter(BoardVariant.superqueen(9), 2).count());
+        assertEquals(4, new NQueensCounter(BoardVariant.superqueen(10), 2).count());
+        assertEquals(44, new NQueensCounter(BoardVariant.superqueen(11), 2).count());
+        assertEquals(156, new NQueensCounter(BoardVariant.superqueen(12), 2).count());
+    }
+
+    @Test
+    void testBlockedSquares() throws InterruptedException {
+        // The two 4-Queens solutions are [1,3,0,2] and [2,0,3,1]; blocking (0,1) leaves one.
+        int[] blocked = {1 << 1, 0, 0, 0};
+        BoardVariant variant = BoardVariant.standard(4).withBlockedRows(blocked);
+        assertEquals(1, new NQueensCounter(variant, 1).count());
+        assertArrayEquals(new int[] {2, 0, 3, 1}, BitboardSearch.findFirst(variant));
+
+        blocked[0] = 0b0110;
+        assertEquals(0, new NQueensCounter(BoardVariant.standard(4).withBlockedRows(blocked), 1).count());
+    }
+
+    @Test
+    void testInvalidBlockedRows() {
+        assertThrows(IllegalArgumentException.class,
+            () -> BoardVariant.standard(4).withBlockedRows(new int[3]));
+        assertThrows(IllegalArgumentException.class,
+            () -> BoardVariant.standard(4).withBlockedRows(new int[] {1 << 4, 0, 0, 0}));
+    }
+
+    @Test
+    void testConstructorWithInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new NQueensCounter(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new NQueensCounter(33, 1));
+        assertThrows(IllegalArgumentException.class, () -> new NQueensCounter(8, 0));
+    }
+
+    @Test
+    void testFinalProgressIsReported() throws InterruptedException {
+        NQueensCounter counter = new NQueensCounter(10, 2);
+        List<SearchProgress> reports = new CopyOnWriteArrayList<>();
+        counter.addProgressListener(reports::add);
+        counter.setReportInterval(1, TimeUnit.MILLISECONDS);
+
+        long solutions = counter.count();
+
+        assertFalse(reports.isEmpty());
+        SearchProgress last = reports.get(reports.size() - 1);
+        assertTrue(last.isFinished());
+        assertEquals(solutions, last.getSolutions());
+        assertEquals(last.getTotalSubtrees(), last.getCompletedSubtrees());
+        assertEquals(1.0, last.getFractionComplete());
+        assertEquals(0, last.getEtaNanos());
+        assertTrue(last.getNodes() > solutions);
+    }
+
+    @Test
+    void testCancelledCountThrows() {
+        NQueensCounter counter = new NQueensCounter(8, 1);
+        counter.cancel();
+        assertThrows(CancellationException.class, counter::count);
+        assertTrue(counter.isCancelled());
+    }
+}
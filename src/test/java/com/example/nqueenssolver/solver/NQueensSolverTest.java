@@ -172,6 +172,51 @@ public class NQueensSolverTest {
         assertEquals(1, solver.getQueens()[0]);
     }
 
+    @Test
+    void testCopyInto() {
+        solver = new NQueensSolver(4, random);
+        solver.placeQueen(0, 1);
+        solver.placeQueen(2, 3);
+
+        int[] dst = new int[6];
+        solver.copyInto(dst);
+        assertArrayEquals(new int[] {1, -1, 3, -1, 0, 0}, dst);
+
+        assertThrows(IllegalArgumentException.class, () -> solver.copyInto(new int[3]));
+    }
+
+    @Test
+    void testReadOnlyViews() {
+        solver = new NQueensSolver(4, random);
+        solver.placeQueen(1, 2);
+
+        assertEquals(2, solver.queenAt(1));
+        assertEquals(-1, solver.queenAt(0));
+        assertSame(solver.columnView(), solver.columnView());
+        assertEquals(2, solver.columnView().applyAsInt(1));
+
+        java.nio.IntBuffer buffer = solver.asIntBuffer();
+        assertTrue(buffer.isReadOnly());
+        assertEquals(4, buffer.remaining());
+        assertEquals(2, buffer.get(1));
+
+        solver.placeQueen(3, 0);
+        assertEquals(0, buffer.get(3), "Buffer should be a live view");
+        assertEquals(0, solver.columnView().applyAsInt(3));
+    }
+
+    @Test
+    void testToBitSet() {
+        solver = new NQueensSolver(4, random);
+        solver.placeQueen(0, 1);
+        solver.placeQueen(1, 3);
+
+        java.util.BitSet board = solver.toBitSet();
+        assertEquals(2, board.cardinality());
+        assertTrue(board.get(1));       // Queen at (0,1)
+        assertTrue(board.get(4 + 3));   // Queen at (1,3)
+    }
+
     private boolean isValidSolution(int[] queens) {
         int n = queens.length;
         
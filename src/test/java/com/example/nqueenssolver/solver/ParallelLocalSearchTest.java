@@ -0,0 +1,62 @@
+package com.example.nqueenssolver.solver;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelLocalSearchTest {
+
+    @Test
+    void testSolvesLargeBoard() throws InterruptedException {
+        ParallelLocalSearch search = new ParallelLocalSearch(100_000, 4, 42);
+        assertTrue(search.solve());
+        assertTrue(SolutionValidator.isValid(search.getQueens()));
+        assertTrue(search.getRepairs() > 0);
+    }
+
+    @Test
+    void testSingleThreadedSolve() throws InterruptedException {
+        ParallelLocalSearch search = new ParallelLocalSearch(5_000, 1, 7);
+        assertTrue(search.solve());
+
+        int[] queens = new int[5_000];
+        search.copyInto(queens);
+        assertNull(SolutionValidator.findConflict(queens));
+        assertEquals(queens[123], search.queenAt(123));
+    }
+
+    @Test
+    void testWorkersDoNotMultiplyRepairs() throws InterruptedException {
+        // Extra workers must share the work, not create more of it.
+        ParallelLocalSearch single = new ParallelLocalSearch(200_000, 1, 3);
+        ParallelLocalSearch parallel = new ParallelLocalSearch(200_000, 8, 3);
+        assertTrue(single.solve());
+        assertTrue(parallel.solve());
+        assertTrue(parallel.getRepairs() <= 3 * single.getRepairs(),
+            "1 worker: " + single.getRepairs() + " repairs, 8 workers: " + parallel.getRepairs());
+    }
+
+    @Test
+    void testSmallBoardsRestartWhenStuck() throws InterruptedException {
+        // Without restarts about 1 in 40 seeds at N=40 ends in a local minimum.
+        for (int n : new int[] {8, 40, 50}) {
+            for (long seed = 1; seed <= 40; seed++) {
+                ParallelLocalSearch search = new ParallelLocalSearch(n, 2, seed);
+                assertTrue(search.solve(), "N=" + n + ", seed " + seed);
+                assertTrue(SolutionValidator.isValid(search.getQueens()));
+            }
+        }
+    }
+
+    @Test
+    void testImpossibleBoards() throws InterruptedException {
+        assertFalse(new ParallelLocalSearch(2, 2, 1).solve());
+        assertFalse(new ParallelLocalSearch(3, 2, 1).solve());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelLocalSearch(0, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelLocalSearch(10, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelLocalSearch(10, 1, 1).setMaxRounds(0));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.nqueenssolver.solver;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sampling throughput in solutions per second, single-threaded and through
+ * the bulk API on all available processors:
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="SamplerBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SamplerBenchmark {
+
+    private static final int BATCH = 64;
+
+    @Param({"20", "25", "30"})
+    public int n;
+
+    private SolutionSampler sampler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sampler = new SolutionSampler(n, 42);
+    }
+
+    @Benchmark
+    public int[] sampleOne() {
+        return sampler.sampleOne();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int[][] sampleBatch() throws InterruptedException {
+        return sampler.sampleBatch(BATCH, Runtime.getRuntime().availableProcessors());
+    }
+}
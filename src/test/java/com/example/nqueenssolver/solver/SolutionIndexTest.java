@@ -0,0 +1,70 @@
+package com.example.nqueenssolver.solver;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+public class SolutionIndexTest {
+
+    private static final long[] KNOWN_COUNTS = {1, 0, 0, 2, 10, 4, 40, 92, 352, 724};
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testCountsAndOrder() throws Exception {
+        SolutionIndexBuilder.buildAll(tempDir, 10);
+        SolutionIndex index = SolutionIndex.open(tempDir);
+        for (int n = 1; n <= 10; n++) {
+            assertEquals(KNOWN_COUNTS[n - 1], index.getSolutionCount(n), "n=" + n);
+            int[] previous = null;
+            for (long k = 0; k < index.getSolutionCount(n); k++) {
+                int[] queens = index.solutionAt(n, k);
+                assertTrue(SolutionValidator.isValid(queens));
+                assertEquals(k, index.rankOf(queens));
+                if (previous != null) {
+                    assertTrue(Arrays.compare(previous, queens) < 0, "Table is not in lexicographic order");
+                }
+                previous = queens;
+            }
+        }
+        assertArrayEquals(BitboardSearch.findFirst(8), index.solutionAt(8, 0));
+        assertArrayEquals(new int[] {7, 3, 0, 2, 5, 1, 6, 4}, index.solutionAt(8, 91));
+    }
+
+    @Test
+    void testRankOfSolverOutput() throws Exception {
+        SolutionIndexBuilder.buildAll(tempDir, 12);
+        SolutionIndex index = SolutionIndex.open(tempDir);
+        NQueensSolver solver = new NQueensSolver(12, new Random(5));
+        assertTrue(solver.solve());
+        long rank = index.rankOf(solver.getQueens());
+        assertTrue(rank >= 0);
+        assertArrayEquals(solver.getQueens(), index.solutionAt(12, rank));
+    }
+
+    @Test
+    void testNonSolutionsAndMissingTables() throws Exception {
+        SolutionIndexBuilder.buildAll(tempDir, 6);
+        SolutionIndex index = SolutionIndex.open(tempDir);
+        assertEquals(-1, index.rankOf(new int[] {0, 1, 2, 3}));
+        assertEquals(-1, index.rankOf(new int[] {1, 3, 0, 9}));
+        assertFalse(index.contains(7));
+        assertThrows(IllegalArgumentException.class, () -> index.solutionAt(7, 0));
+        assertThrows(IllegalArgumentException.class, () -> index.solutionAt(6, 4));
+        assertThrows(IllegalArgumentException.class, () -> index.solutionAt(6, -1));
+        assertThrows(IllegalArgumentException.class, () -> SolutionIndexBuilder.buildAll(tempDir, 16));
+    }
+
+    @Test
+    void testRejectsCorruptTable() throws IOException {
+        Files.write(SolutionIndex.tableFile(tempDir, 5), new byte[32]);
+        assertThrows(IOException.class, () -> SolutionIndex.open(tempDir));
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.nqueenssolver.solver;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class SolutionSamplerTest {
+
+    @Test
+    void testSamplesAreValid() throws InterruptedException {
+        SolutionSampler sampler = new SolutionSampler(20, 42);
+        int[][] samples = sampler.sampleBatch(20, 2);
+        assertEquals(20, samples.length);
+        for (int[] queens : samples) {
+            assertTrue(SolutionValidator.isValid(queens), Arrays.toString(queens));
+        }
+    }
+
+    @Test
+    void testSmallBoardIsSampledUniformly() throws InterruptedException {
+        // N=8 lies entirely in the exact-count region, so every solution is equally likely.
+        int samples = 9200;
+        Map<String, Integer> counts = new HashMap<>();
+        for (int[] queens : new SolutionSampler(8, 7).sampleBatch(samples, 2)) {
+            counts.merge(Arrays.toString(queens), 1, Integer::sum);
+        }
+        assertEquals(92, counts.size());
+        for (int count : counts.values()) {
+            assertTrue(count > 50 && count < 160, "Suspicious frequency " + count);
+        }
+    }
+
+    @Test
+    void testEstimatedProposalsAreCorrected() throws InterruptedException {
+        // Only the last two rows are counted exactly and 16 particles give noisy
+        // proposals; without the acceptance step the first row is off by 10% or more.
+        long[] firstRowCounts = {64, 48, 65, 93, 92, 92, 93, 65, 48, 64};
+        int samples = 72400;
+        SolutionSampler sampler = new SolutionSampler(BoardVariant.standard(10), 16, 3, 2, 0);
+        Map<String, Integer> counts = new HashMap<>();
+        int[] firstRow = new int[10];
+        for (int[] queens : sampler.sampleBatch(samples, 4)) {
+            counts.merge(Arrays.toString(queens), 1, Integer::sum);
+            firstRow[queens[0]]++;
+        }
+        assertEquals(724, counts.size());
+        for (int count : counts.values()) {
+            assertTrue(count > 40 && count < 180, "Suspicious frequency " + count);
+        }
+        for (int col = 0; col < 10; col++) {
+            double expected = firstRowCounts[col] * (double) samples / 724;
+            assertEquals(expected, firstRow[col], expected * 0.07, "First-row column " + col);
+        }
+    }
+
+    @Test
+    void testConsecutiveSamplesRarelyRepeat() throws InterruptedException {
+        // With one step per sample about 6 in 100 consecutive samples at N=20
+        // repeat or mirror the previous one.
+        int n = 20;
+        int[][] samples = new SolutionSampler(n, 5).sampleBatch(100, 1);
+        int repeats = 0;
+        for (int i = 1; i < samples.length; i++) {
+            int[] mirrored = new int[n];
+            for (int row = 0; row < n; row++) {
+                mirrored[row] = n - 1 - samples[i][row];
+            }
+            if (Arrays.equals(samples[i], samples[i - 1]) || Arrays.equals(mirrored, samples[i - 1])) {
+                repeats++;
+            }
+        }
+        assertTrue(repeats <= 2, repeats + " consecutive repeats in 100 samples");
+    }
+
+    @Test
+    void testEstimatedSolutionCount() {
+        assertEquals(14200, new SolutionSampler(12, 1).getEstimatedSolutionCount(), 0.5);
+        assertEquals(14772512, new SolutionSampler(16, 1).getEstimatedSolutionCount(), 14772512 * 0.05);
+    }
+
+    @Test
+    void testSameSeedGivesSameSamples() throws InterruptedException {
+        int[][] first = new SolutionSampler(14, 3).sampleBatch(8, 2);
+        int[][] second = new SolutionSampler(14, 3).sampleBatch(8, 2);
+        assertArrayEquals(first, second);
+    }
+
+    @Test
+    void testBoardWithoutSolutions() {
+        SolutionSampler sampler = new SolutionSampler(3, 1);
+        assertEquals(0, sampler.getEstimatedSolutionCount());
+        assertThrows(IllegalStateException.class, sampler::sampleOne);
+    }
+
+    @Test
+    void testStaticBulkSample() throws InterruptedException {
+        int[][] samples = SolutionSampler.sample(10, 5);
+        assertEquals(5, samples.length);
+        for (int[] queens : samples) {
+            assertTrue(SolutionValidator.isValid(queens));
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.nqueenssolver.solver;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.example.nqueenssolver.solver.SolutionValidator.Conflict;
+
+public class SolutionValidatorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testValidSolution() {
+        assertTrue(SolutionValidator.isValid(new int[] {1, 3, 0, 2}));
+        assertTrue(SolutionValidator.isValid(new int[] {0}));
+        assertNull(SolutionValidator.findConflict(new int[] {0, 4, 7, 5, 2, 6, 1, 3}));
+    }
+
+    @Test
+    void testReportsFirstConflict() {
+        assertEquals(new Conflict(Conflict.Kind.COLUMN, 2, 0, 1),
+            SolutionValidator.findConflict(new int[] {1, 3, 1, 0}));
+        assertEquals(new Conflict(Conflict.Kind.DIAGONAL, 1, 0, 1),
+            SolutionValidator.findConflict(new int[] {0, 1, 3, 2}));
+        assertEquals(new Conflict(Conflict.Kind.ANTI_DIAGONAL, 1, 0, 0),
+            SolutionValidator.findConflict(new int[] {1, 0, 3, 2}));
+        assertEquals(Conflict.Kind.EMPTY_ROW,
+            SolutionValidator.findConflict(new int[] {1, 3, -1, 2}).getKind());
+        assertEquals(Conflict.Kind.OUT_OF_RANGE,
+            SolutionValidator.findConflict(new int[] {1, 4, 0, 2}).getKind());
+    }
+
+    @Test
+    void testLargeConstructedSolution() {
+        // For n mod 6 not in {2, 3}: even columns after odd ones, two rows apart.
+        int n = 1_000_000;
+        int[] queens = new int[n];
+        for (int i = 0; i < n / 2; i++) {
+            queens[i] = 2 * i + 1;
+            queens[i + n / 2] = 2 * i;
+        }
+        assertNull(SolutionValidator.findConflict(queens));
+
+        queens[n - 1] = queens[10];
+        Conflict conflict = SolutionValidator.findConflict(queens);
+        assertEquals(Conflict.Kind.COLUMN, conflict.getKind());
+        assertEquals(n - 1, conflict.getRow());
+        assertEquals(10, conflict.getOtherRow());
+    }
+
+    @Test
+    void testRejectsBoardsWhoseDiagonalsOverflow() {
+        assertThrows(IllegalArgumentException.class, () -> new SolutionValidator(SolutionValidator.MAX_BOARD_SIZE + 1));
+        assertThrows(IllegalArgumentException.class, () -> new SolutionValidator(0));
+    }
+
+    @Test
+    void testStreamedInput() throws IOException {
+        assertNull(SolutionValidator.findConflict(4, new ByteArrayInputStream(encode(ByteOrder.BIG_ENDIAN, 1, 3, 0, 2))));
+
+        Conflict missing = SolutionValidator.findConflict(4, new ByteArrayInputStream(encode(ByteOrder.BIG_ENDIAN, 1, 3)));
+        assertEquals(Conflict.Kind.MISSING_ROWS, missing.getKind());
+
+        Conflict extra = SolutionValidator.findConflict(4,
+            new ByteArrayInputStream(encode(ByteOrder.BIG_ENDIAN, 1, 3, 0, 2, 0)));
+        assertEquals(Conflict.Kind.EXTRA_ROW, extra.getKind());
+    }
+
+    @Test
+    void testMappedFile() throws IOException {
+        Path file = tempDir.resolve("queens.bin");
+        Files.write(file, encode(ByteOrder.LITTLE_ENDIAN, 2, 0, 3, 1));
+        assertNull(SolutionValidator.findConflict(file, ByteOrder.LITTLE_ENDIAN));
+
+        Files.write(file, encode(ByteOrder.LITTLE_ENDIAN, 2, 0, 3, 0));
+        Conflict conflict = SolutionValidator.findConflict(file, ByteOrder.LITTLE_ENDIAN);
+        assertEquals(Conflict.Kind.COLUMN, conflict.getKind());
+        assertEquals(1, conflict.getOtherRow());
+    }
+
+    @Test
+    void testIncrementalValidation() {
+        IncrementalValidator validator = new IncrementalValidator(new int[] {1, 3, 0, 2});
+        assertTrue(validator.isValid());
+        assertEquals(0, validator.getAttackingPairs());
+
+        validator.moveQueen(2, 1);
+        assertFalse(validator.isValid());
+        assertEquals(2, validator.conflictsAt(2));
+
+        validator.moveQueen(2, 0);
+        assertTrue(validator.isValid());
+
+        validator.moveQueen(3, -1);
+        assertFalse(validator.isValid());
+        assertEquals(1, validator.getEmptyRows());
+        assertEquals(0, validator.getAttackingPairs());
+    }
+
+    private static byte[] encode(ByteOrder order, int... values) {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Integer.BYTES).order(order);
+        for (int value : values) {
+            buffer.putInt(value);
+        }
+        return buffer.array();
+    }
+}
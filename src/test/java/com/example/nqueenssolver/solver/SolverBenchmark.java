@@ -0,0 +1,139 @@
+package com.example.nqueenssolver.solver;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmarks for the solver hot paths. Run with {@code -prof gc} to check
+ * that the search loops and accessors report a normalized allocation rate of
+ * (close to) zero bytes per operation:
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="-prof gc SolverBenchmark"
+ * </pre>
+ * {@code variantCount} reports the counting rate in nodes per second for
+ * each attack model, with and without blocked squares, so the variant loops
+ * can be compared with the standard one.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SolverBenchmark {
+
+    @Param({"8", "12"})
+    public int n;
+
+    private NQueensSolver solver;
+    private BitboardEngine engine;
+    private int[] buffer;
+    private long[] stats;
+
+    @State(Scope.Thread)
+    public static class Variant {
+        @Param({"15"})
+        public int size;
+
+        @Param({"STANDARD", "TOROIDAL", "SUPERQUEEN"})
+        public AttackModel model;
+
+        @Param({"false", "true"})
+        public boolean blocked;
+
+        private BitboardEngine engine;
+        private final long[] stats = new long[2];
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            BoardVariant variant = BoardVariant.of(size, model);
+            if (blocked) {
+                // Two opposite corners: the tree keeps its shape, but every node reads a non-zero mask.
+                int[] rows = new int[size];
+                rows[0] = 1;
+                rows[size - 1] = 1 << (size - 1);
+                variant = variant.withBlockedRows(rows);
+            }
+            engine = new BitboardEngine(variant);
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Nodes {
+        public long nodes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            nodes = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        solver = new NQueensSolver(n, new Random(42));
+        solver.solve();
+        engine = new BitboardEngine(BoardVariant.standard(n));
+        buffer = new int[n];
+        stats = new long[2];
+    }
+
+    @Benchmark
+    public boolean backtrackingSolve() {
+        solver.reset();
+        return solver.solve();
+    }
+
+    @Benchmark
+    public long bitboardCount() {
+        stats[0] = 0;
+        stats[1] = 0;
+        engine.count(0, 0, 0, 0, 0, 0, stats);
+        return stats[0];
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public long variantCount(Variant variant, Nodes nodes) {
+        long[] counts = variant.stats;
+        counts[0] = 0;
+        counts[1] = 0;
+        variant.engine.count(0, 0, 0, 0, 0, 0, counts);
+        nodes.nodes += counts[1];
+        return counts[0];
+    }
+
+    @Benchmark
+    public int[] copyInto() {
+        solver.copyInto(buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public void columnView(Blackhole blackhole) {
+        for (int row = 0; row < n; row++) {
+            blackhole.consume(solver.columnView().applyAsInt(row));
+        }
+    }
+
+    @Benchmark
+    public int[] getQueensCopy() {
+        return solver.getQueens();
+    }
+}
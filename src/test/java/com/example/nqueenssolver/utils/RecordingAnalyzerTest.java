@@ -0,0 +1,88 @@
+package com.example.nqueenssolver.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import com.example.nqueenssolver.solver.NQueensCounter;
+import com.example.nqueenssolver.solver.SolverCancelledEvent;
+import com.example.nqueenssolver.solver.SolverPhaseEvent;
+import com.example.nqueenssolver.solver.SolverTaskEvent;
+import com.example.nqueenssolver.solver.SolverThroughputEvent;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class RecordingAnalyzerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testSolverEventsAreRecorded() throws Exception {
+        Path file = tempDir.resolve("count.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(SolverPhaseEvent.class);
+            recording.enable(SolverTaskEvent.class);
+            recording.enable(SolverThroughputEvent.class);
+            recording.enable(SolverCancelledEvent.class);
+            recording.start();
+            assertEquals(14200, new NQueensCounter(12, 2).count());
+
+            NQueensCounter cancelled = new NQueensCounter(10, 1);
+            cancelled.cancel();
+            assertThrows(CancellationException.class, cancelled::count);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        long taskNodes = 0;
+        long taskSolutions = 0;
+        long phaseNodes = 0;
+        int phases = 0;
+        int cancellations = 0;
+        for (RecordedEvent event : events) {
+            String name = event.getEventType().getName();
+            if (SolverTaskEvent.NAME.equals(name)) {
+                taskNodes += event.getLong("nodes");
+                taskSolutions += event.getLong("solutions");
+                assertNotNull(event.getString("prefix"));
+            } else if (SolverPhaseEvent.NAME.equals(name)) {
+                phases++;
+                if (event.getInt("boardSize") == 12 && SolverPhaseEvent.COUNT.equals(event.getString("phase"))) {
+                    phaseNodes = event.getLong("nodes");
+                    assertFalse(event.getBoolean("cancelled"));
+                }
+            } else if (SolverCancelledEvent.NAME.equals(name)) {
+                cancellations++;
+                assertEquals(10, event.getInt("boardSize"));
+            }
+        }
+        assertEquals(14200, taskSolutions);
+        assertEquals(phaseNodes, taskNodes);
+        assertEquals(4, phases);
+        assertEquals(1, cancellations);
+
+        String report = RecordingAnalyzer.analyze(file);
+        assertTrue(report.contains("partition"), report);
+        assertTrue(report.contains("count*"), report);
+        assertTrue(report.contains("Cancelled: N=10"), report);
+    }
+
+    @Test
+    void testRecordingWithoutSolverEvents() throws Exception {
+        Path file = tempDir.resolve("empty.jfr");
+        try (Recording recording = new Recording()) {
+            recording.start();
+            recording.stop();
+            recording.dump(file);
+        }
+        assertEquals("No N-Queens solver events in recording\n", RecordingAnalyzer.analyze(file));
+    }
+}